@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본)와 가상 스레드(virtual 프로필)의 처리량 측정 스크립트.
+#
+# 사용법: TOKEN=<액세스 토큰> ./loadtest/virtual-threads.sh [경로]
+#   - JDK 21, wrk, curl 이 필요하고 MySQL/Redis 등 애플리케이션 설정이 되어 있어야 한다.
+#   - 기본 경로는 DB를 읽는 학생 목록 (/api/students?page=0&size=50).
+#   - 원본 결과는 build/loadtest/<모드>-c<동시 연결 수>.txt, 두 모드 비교표는 build/loadtest/summary.txt 에 저장된다.
+#   - 측정값은 장비와 DB 상태에 따라 달라지므로 저장소에는 넣지 않는다. 비교 결과를 인용할 때는 summary.txt와 측정 환경을 함께 남긴다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+TARGET_PATH="${1:-/api/students?page=0&size=50}"
+PORT="${PORT:-8080}"
+MANAGEMENT_PORT="${MANAGEMENT_PORT:-8081}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-100 400 1000 2000}"
+OUT=build/loadtest
+: "${TOKEN:?TOKEN 환경 변수에 액세스 토큰을 넣어 주세요}"
+
+mkdir -p "$OUT"
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run() {
+  local mode=$1 profile=$2
+  java -jar "$JAR" --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" \
+    ${profile:+--spring.profiles.active=$profile} > "$OUT/$mode-app.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  # Actuator는 관리 포트에서만 열린다
+  until curl -sf "http://localhost:$MANAGEMENT_PORT/actuator/health" > /dev/null; do sleep 1; done
+
+  # 워밍업
+  wrk -t4 -c50 -d10s -H "Authorization: Bearer $TOKEN" "http://localhost:$PORT$TARGET_PATH" > /dev/null
+
+  for c in $CONCURRENCY; do
+    echo "== $mode, connections=$c"
+    wrk -t8 -c"$c" -d"$DURATION" --latency -H "Authorization: Bearer $TOKEN" \
+      "http://localhost:$PORT$TARGET_PATH" | tee "$OUT/$mode-c$c.txt" | grep -E "Requests/sec|Latency|99%|Non-2xx|Socket errors"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+# 동시 연결 수별 Requests/sec, p99 지연 시간
+summarize() {
+  printf "%-12s %-16s %-16s %-12s %-12s\n" connections platform_req/s virtual_req/s platform_p99 virtual_p99
+  for c in $CONCURRENCY; do
+    printf "%-12s %-16s %-16s %-12s %-12s\n" "$c" \
+      "$(awk '/Requests\/sec/ {print $2}' "$OUT/platform-c$c.txt")" \
+      "$(awk '/Requests\/sec/ {print $2}' "$OUT/virtual-c$c.txt")" \
+      "$(awk '$1 == "99%" {print $2}' "$OUT/platform-c$c.txt")" \
+      "$(awk '$1 == "99%" {print $2}' "$OUT/virtual-c$c.txt")"
+  done
+}
+
+run platform ""
+run virtual virtual
+{
+  echo "java: $(java -version 2>&1 | head -1)"
+  echo "path: $TARGET_PATH, duration: $DURATION"
+  summarize
+} | tee "$OUT/summary.txt"
@@ -0,0 +1,156 @@
+package elice.yeardreamback.benchmark;
+
+import elice.yeardreamback.dto.CustomOAuth2User;
+import elice.yeardreamback.dto.UserDTO;
+import elice.yeardreamback.entity.User;
+import elice.yeardreamback.jwt.JWTClaimsCache;
+import elice.yeardreamback.jwt.JWTFilter;
+import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.jwt.SigningKeyRing;
+import elice.yeardreamback.service.impl.RevokedTokenStore;
+import elice.yeardreamback.service.impl.TokenServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 거치는 인증 경로의 처리량과 할당량.
+ * 할당량은 gc 프로파일러(./gradlew jmh)의 gc.alloc.rate.norm으로 본다.
+ * Redis는 폐기 목록이 비어 있는 상태로 대체하므로, 필터는 블룸 필터에서 바로 통과한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthHotPathBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {};
+
+    private JWTUtil jwtUtil;
+    private String token;
+    private JWTFilter cachedFilter;
+    private JWTFilter uncachedFilter;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+    private CustomOAuth2User oAuth2User;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(new SigningKeyRing("benchmark-secret-benchmark-secret-0123456789",
+                SigningKeyRing.HS256, "", "", "", ""));
+        token = jwtUtil.createJwt("access", "naver 1234567890", "USER", "홍길동", 3_600_000L);
+
+        cachedFilter = newFilter(new JWTClaimsCache(jwtUtil, true, 10_000));
+        uncachedFilter = newFilter(new JWTClaimsCache(jwtUtil, false, 0));
+
+        bearerRequest = new MockHttpServletRequest("GET", "/api/students");
+        bearerRequest.addHeader("Authorization", "Bearer " + token);
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/students");
+        response = new MockHttpServletResponse();
+
+        oAuth2User = new CustomOAuth2User(UserDTO.builder().username("naver 1234567890").name("홍길동").role("USER").build());
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("naver 1234567890");
+        user.setName("홍길동");
+        user.setEmail("hong@naver.com");
+        user.setRole("USER");
+        user.setProfileImg("https://example.com/p.png");
+        user.setPhone("010-0000-0000");
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return jwtUtil.createJwt("access", "naver 1234567890", "USER", "홍길동", 3_600_000L);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtUtil.getUsername(token);
+    }
+
+    @Benchmark
+    public String getName() {
+        return jwtUtil.getName(token);
+    }
+
+    @Benchmark
+    public String getRole() {
+        return jwtUtil.getRole(token);
+    }
+
+    @Benchmark
+    public Boolean isExpired() {
+        return jwtUtil.isExpired(token);
+    }
+
+    @Benchmark
+    public Boolean isRefreshToken() {
+        return jwtUtil.isRefreshToken(token);
+    }
+
+    // 같은 토큰으로 반복 요청 (검증 캐시 적중)
+    @Benchmark
+    public Object filterCachedToken() throws ServletException, IOException {
+        cachedFilter.doFilter(bearerRequest, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // 매번 서명 검증
+    @Benchmark
+    public Object filterUncachedToken() throws ServletException, IOException {
+        uncachedFilter.doFilter(bearerRequest, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object filterNoToken() throws ServletException, IOException {
+        cachedFilter.doFilter(anonymousRequest, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return oAuth2User.getAuthorities();
+    }
+
+    @Benchmark
+    public UserDTO userDtoFromEntity() {
+        return UserDTO.fromEntity(user);
+    }
+
+    private static JWTFilter newFilter(JWTClaimsCache claimsCache) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenServiceImpl tokenService = new TokenServiceImpl(new RevokedTokenStore(emptyRedis(), 128, 2, 8, 8192), claimsCache,
+                new RedisMessageListenerContainer(), meterRegistry, 100_000, 0.01, 1_000, 30_000, 600_000, 5_000);
+        tokenService.rebuildBloomFilter();
+        return new JWTFilter(claimsCache, tokenService, meterRegistry);
+    }
+
+    // 폐기 키가 하나도 없는 Redis (연결 팩토리는 시작하지 않으므로 실제로 접속하지 않는다)
+    private static ReactiveStringRedisTemplate emptyRedis() {
+        return new ReactiveStringRedisTemplate(new LettuceConnectionFactory()) {
+            @Override
+            public Flux<String> scan(ScanOptions options) {
+                return Flux.empty();
+            }
+        };
+    }
+}
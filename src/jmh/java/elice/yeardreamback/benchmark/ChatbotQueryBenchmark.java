@@ -0,0 +1,81 @@
+package elice.yeardreamback.benchmark;
+
+import elice.yeardreamback.chatbot.FaqIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FAQ 색인 검색 지연 시간 (FAQ 1만 / 10만 건).
+ * FAQ는 자주 쓰는 단어와 무작위 음절 단어를 섞어서 만든다 (자주 쓰는 단어는 문서 빈도가 높은 토큰 역할).
+ * 짧은 질문, 흔한 어미만 겹치는 질문, 긴 질문을 나눠서 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatbotQueryBenchmark {
+
+    private static final String[] COMMON_WORDS = {
+            "수업", "시간", "일정", "출석", "과제", "제출", "마감", "강의실", "휴가", "코치",
+            "노트북", "점심", "주차", "수료", "면접", "프로젝트", "팀", "발표", "자료", "링크"
+    };
+    private static final String[] ENDINGS = {"인가요?", "하나요?", "은 언제예요?", "는 어디서 보나요?", "이 뭔가요?"};
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하거너더러머버서어저처커터퍼허고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후기니디리미비시이지치키티피히";
+
+    @Param({"10000", "100000"})
+    private int entries;
+
+    private FaqIndex index;
+    private String shortQuery;
+    private String commonQuery;
+    private String longQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = new String[2000];
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(2);
+            for (int j = 0; j < length; j++) {
+                word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            words[i] = word.toString();
+        }
+
+        index = new FaqIndex();
+        for (int id = 1; id <= entries; id++) {
+            String question = String.join(" ", List.of(
+                    COMMON_WORDS[random.nextInt(COMMON_WORDS.length)],
+                    words[random.nextInt(words.length)],
+                    words[random.nextInt(words.length)],
+                    words[random.nextInt(words.length)])) + ENDINGS[random.nextInt(ENDINGS.length)];
+            StringBuilder answer = new StringBuilder();
+            for (int j = 0; j < 15; j++) {
+                answer.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            index.upsert(id, question, answer.append("입니다.").toString());
+        }
+
+        shortQuery = words[7] + " " + words[11];
+        commonQuery = "수업 시간은 언제예요?";
+        longQuery = words[3] + " " + words[19] + " " + words[101] + " " + COMMON_WORDS[4] + " " + COMMON_WORDS[5] + " 마감은 언제예요?";
+    }
+
+    @Benchmark
+    public List<FaqIndex.Hit> shortQuery() {
+        return index.search(shortQuery, 3);
+    }
+
+    @Benchmark
+    public List<FaqIndex.Hit> commonQuery() {
+        return index.search(commonQuery, 3);
+    }
+
+    @Benchmark
+    public List<FaqIndex.Hit> longQuery() {
+        return index.search(longQuery, 3);
+    }
+}
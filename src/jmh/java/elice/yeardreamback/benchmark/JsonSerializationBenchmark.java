@@ -0,0 +1,156 @@
+package elice.yeardreamback.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import elice.yeardreamback.dto.SeatState;
+import elice.yeardreamback.dto.StudentSummary;
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.dto.UserResponse;
+import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.entity.User;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.repository.StudentRepository;
+import elice.yeardreamback.service.impl.SeatMapServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록/프로필 응답 직렬화 비용과 요청당 할당량 (gc.alloc.rate.norm).
+ * reflective*는 기존 방식(ObjectMapper로 객체를 만들어 직렬화), 나머지는 바뀐 방식이다.
+ * 기존 좌석 변경분 응답(목록을 만든 뒤 레코드로 직렬화)은 서비스에서 빠졌으므로 여기서 같은 모양으로 만든다.
+ * 응답 본문은 버리는 스트림에 써서 직렬화 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final int SEATS = 200;
+    private static final int CHANGED_SEATS = 10;
+
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+    private SeatMapServiceImpl seatMapService;
+    private long sinceVersion;
+    private List<StudentSummary> students;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        plainMapper = newMapper();
+        blackbirdMapper = newMapper().registerModule(new BlackbirdModule());
+
+        List<Students> entities = new ArrayList<>(SEATS);
+        for (int i = 1; i <= SEATS; i++) {
+            Students student = new Students();
+            student.setId((long) i);
+            student.setName("수강생" + i);
+            student.setSeatNum(i);
+            student.setStatus(StudentStatus.ABSENT);
+            student.setUpdatedAt(LocalDateTime.of(2025, 3, 4, 9, 0, 15));
+            entities.add(student);
+        }
+        students = entities.stream()
+                .map(student -> new StudentSummary(student.getId(), student.getName(), student.getSeatNum(), student.getStatus()))
+                .toList();
+
+        StudentRepository repository = (StudentRepository) Proxy.newProxyInstance(
+                StudentRepository.class.getClassLoader(), new Class<?>[]{StudentRepository.class},
+                (proxy, method, args) -> "findAll".equals(method.getName()) ? entities : null);
+        seatMapService = new SeatMapServiceImpl(repository, blackbirdMapper, event -> {});
+        sinceVersion = seatMapService.snapshot().version();
+        for (int i = 1; i <= CHANGED_SEATS; i++) {
+            Students student = entities.get(i * 7);
+            student.setStatus(StudentStatus.PRESENT);
+            seatMapService.onStatusChanged(StudentStatusEvent.fromEntity(student, "bench"));
+        }
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("naver 1234567890");
+        user.setName("홍길동");
+        user.setEmail("hong@naver.com");
+        user.setRole("USER");
+        user.setProfileImg("https://example.com/p.png");
+        user.setPhone("010-0000-0000");
+        user.setCreatedAt(LocalDateTime.of(2025, 3, 1, 10, 0));
+        user.setUpdatedAt(LocalDateTime.of(2025, 3, 2, 10, 0));
+    }
+
+    // 변경된 좌석 10개 (폴링 응답)
+    @Benchmark
+    public void reflectiveDelta() throws IOException {
+        plainMapper.writeValue(out, delta(sinceVersion));
+    }
+
+    @Benchmark
+    public void streamingDelta() throws IOException {
+        seatMapService.writeChangesSince(sinceVersion, out);
+    }
+
+    // 전체 배치도 200석
+    @Benchmark
+    public void reflectiveFullSeatMap() throws IOException {
+        plainMapper.writeValue(out, delta(0));
+    }
+
+    @Benchmark
+    public void streamingFullSeatMap() throws IOException {
+        seatMapService.writeChangesSince(0, out);
+    }
+
+    @Benchmark
+    public void reflectiveStudentList() throws IOException {
+        plainMapper.writeValue(out, students);
+    }
+
+    @Benchmark
+    public void blackbirdStudentList() throws IOException {
+        blackbirdMapper.writeValue(out, students);
+    }
+
+    // 기존 GET /api/users/{username}: Optional<User> 엔티티를 그대로 직렬화
+    @Benchmark
+    public void reflectiveOptionalUser() throws IOException {
+        plainMapper.writeValue(out, Optional.of(user));
+    }
+
+    @Benchmark
+    public void blackbirdUserResponse() throws IOException {
+        blackbirdMapper.writeValue(out, UserResponse.fromEntity(user));
+    }
+
+    // 기존 changesSince: 변경된 좌석 목록을 만들어 레코드로 감싼다 (0이면 전체)
+    private SeatMapDelta delta(long since) {
+        SeatMapSnapshot snapshot = seatMapService.snapshot();
+        boolean full = since == 0;
+        List<SeatState> seats = full ? snapshot.seats() : snapshot.seats().stream()
+                .filter(seat -> seat.version() > since)
+                .toList();
+        return new SeatMapDelta(snapshot.version(), full, seats);
+    }
+
+    // Spring Boot 기본 ObjectMapper와 같은 모듈/설정
+    private static ObjectMapper newMapper() {
+        return new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private record SeatMapDelta(long version, boolean full, List<SeatState> seats) {}
+}
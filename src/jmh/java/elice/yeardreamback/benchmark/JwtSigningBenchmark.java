@@ -0,0 +1,63 @@
+package elice.yeardreamback.benchmark;
+
+import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.jwt.JwtClaims;
+import elice.yeardreamback.jwt.SigningKeyRing;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 방식별 액세스 토큰 발급(sign)과 검증(verify) 비용.
+ * 검증은 JWTClaimsCache를 거치지 않은 실제 서명 검증 경로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSigningBenchmark {
+
+    @Param({SigningKeyRing.HS256, SigningKeyRing.ES256, SigningKeyRing.EDDSA})
+    private String algorithm;
+
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        SigningKeyRing keyRing;
+        if (SigningKeyRing.HS256.equals(algorithm)) {
+            keyRing = new SigningKeyRing("benchmark-secret-benchmark-secret-0123456789", algorithm, "", "", "", "");
+        } else {
+            KeyPair keyPair = generateKeyPair();
+            keyRing = new SigningKeyRing("benchmark-secret-benchmark-secret-0123456789", algorithm, "benchmark",
+                    Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+                    Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()), "");
+        }
+        jwtUtil = new JWTUtil(keyRing);
+        token = jwtUtil.createJwt("access", "naver 1234567890", "ROLE_USER", "홍길동", 3_600_000L);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createJwt("access", "naver 1234567890", "ROLE_USER", "홍길동", 3_600_000L);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return jwtUtil.parse(token);
+    }
+
+    private KeyPair generateKeyPair() throws GeneralSecurityException {
+        if (SigningKeyRing.ES256.equals(algorithm)) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        }
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+}
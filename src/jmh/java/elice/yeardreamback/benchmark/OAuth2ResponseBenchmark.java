@@ -0,0 +1,142 @@
+package elice.yeardreamback.benchmark;
+
+import elice.yeardreamback.dto.OAuth2Response;
+import elice.yeardreamback.oauth2.GoogleResponseFactory;
+import elice.yeardreamback.oauth2.KakaoResponseFactory;
+import elice.yeardreamback.oauth2.NaverResponseFactory;
+import elice.yeardreamback.oauth2.OAuth2ResponseRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 제공자 응답에서 사용자 정보를 꺼내는 비용.
+ * legacy*는 레지스트리 도입 전의 if/else + 게터마다 맵을 다시 탐색하는 래퍼를 그대로 옮긴 비교 기준이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OAuth2ResponseBenchmark {
+
+    private OAuth2ResponseRegistry registry;
+    private Map<String, Object> naverAttributes;
+    private Map<String, Object> googleAttributes;
+    private Map<String, Object> kakaoAttributes;
+
+    @Setup
+    public void setUp() {
+        registry = new OAuth2ResponseRegistry(List.of(new NaverResponseFactory(), new GoogleResponseFactory(), new KakaoResponseFactory()));
+        naverAttributes = Map.of("resultcode", "00", "message", "success",
+                "response", Map.of("id", "naver-1234567890", "name", "홍길동", "email", "hong@naver.com"));
+        googleAttributes = Map.of("sub", "109876543210", "name", "Hong Gildong", "email", "hong@gmail.com",
+                "email_verified", true, "picture", "https://example.com/p.png");
+        kakaoAttributes = Map.of("id", 1234567890L, "connected_at", "2025-01-01T00:00:00Z",
+                "kakao_account", Map.of("email", "hong@kakao.com",
+                        "profile", Map.of("nickname", "길동", "profile_image_url", "https://example.com/k.png")));
+    }
+
+    @Benchmark
+    public void registryNaver(Blackhole blackhole) {
+        readLikeLogin(registry.create("naver", naverAttributes).orElseThrow(), blackhole);
+    }
+
+    @Benchmark
+    public void registryGoogle(Blackhole blackhole) {
+        readLikeLogin(registry.create("google", googleAttributes).orElseThrow(), blackhole);
+    }
+
+    @Benchmark
+    public void registryKakao(Blackhole blackhole) {
+        readLikeLogin(registry.create("kakao", kakaoAttributes).orElseThrow(), blackhole);
+    }
+
+    @Benchmark
+    public void legacyNaver(Blackhole blackhole) {
+        readLikeLogin(legacyCreate("naver", naverAttributes), blackhole);
+    }
+
+    @Benchmark
+    public void legacyGoogle(Blackhole blackhole) {
+        readLikeLogin(legacyCreate("google", googleAttributes), blackhole);
+    }
+
+    @Benchmark
+    public void legacyKakao(Blackhole blackhole) {
+        readLikeLogin(legacyCreate("kakao", kakaoAttributes), blackhole);
+    }
+
+    // loadUser가 읽는 순서대로 접근 (username 조합 + 변경 비교 + UserDTO 생성)
+    private static void readLikeLogin(OAuth2Response response, Blackhole blackhole) {
+        blackhole.consume(response.getProvider() + " " + response.getProviderId());
+        blackhole.consume(response.getName());
+        blackhole.consume(response.getEmail());
+        blackhole.consume(response.getName());
+    }
+
+    private static OAuth2Response legacyCreate(String registrationId, Map<String, Object> attributes) {
+        if (registrationId.equals("naver")) {
+            return new LegacyNaverResponse(attributes);
+        } else if (registrationId.equals("google")) {
+            return new LegacyGoogleResponse(attributes);
+        } else if (registrationId.equals("kakao")) {
+            return new LegacyKakaoResponse(attributes);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class LegacyNaverResponse implements OAuth2Response {
+
+        private final Map<String, Object> attribute;
+
+        LegacyNaverResponse(Map<String, Object> attribute) {
+            this.attribute = (Map<String, Object>) attribute.get("response");
+        }
+
+        public String getProvider() { return "naver"; }
+        public String getProviderId() { return attribute.get("id").toString(); }
+        public String getName() { return attribute.get("name").toString(); }
+        public String getEmail() { return attribute.get("email").toString(); }
+    }
+
+    private static class LegacyGoogleResponse implements OAuth2Response {
+
+        private final Map<String, Object> attribute;
+
+        LegacyGoogleResponse(Map<String, Object> attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getProvider() { return "google"; }
+        public String getProviderId() { return attribute.get("sub").toString(); }
+        public String getEmail() { return attribute.get("email").toString(); }
+        public String getName() { return attribute.get("name").toString(); }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class LegacyKakaoResponse implements OAuth2Response {
+
+        private final Map<String, Object> attributes;
+
+        LegacyKakaoResponse(Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+
+        public String getProvider() { return "kakao"; }
+        public String getProviderId() { return attributes.get("id").toString(); }
+
+        public String getName() {
+            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
+            Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
+            return profile.get("nickname").toString();
+        }
+
+        public String getEmail() {
+            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
+            return kakaoAccount.get("email") != null ? kakaoAccount.get("email").toString() : "";
+        }
+    }
+}
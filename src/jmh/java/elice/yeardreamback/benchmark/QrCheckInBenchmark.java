@@ -0,0 +1,113 @@
+package elice.yeardreamback.benchmark;
+
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import elice.yeardreamback.dto.SeatState;
+import elice.yeardreamback.dto.StudentAccount;
+import elice.yeardreamback.dto.StudentPageResponse;
+import elice.yeardreamback.dto.StudentStatusUpdateRequest;
+import elice.yeardreamback.dto.StudentStatusUpdateResult;
+import elice.yeardreamback.enums.QrCheckInResult;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.service.SeatMapService;
+import elice.yeardreamback.service.StudentService;
+import elice.yeardreamback.service.impl.QrCheckInServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * QR 체크인 처리량.
+ * checkIn은 서명 검증 + 계정 확인(미리 읽은 목록) + 대기열 적재, checkInAndFlush는 한 반(60명)이 스캔한 뒤 일괄 반영까지 포함한 초당 체크인 수.
+ * DB 쓰기는 스텁으로 대체해서 애플리케이션 쪽 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QrCheckInBenchmark {
+
+    private static final int STUDENTS = 60;
+
+    private QrCheckInServiceImpl service;
+    private String payload;
+    private String[] usernames;
+    private final AtomicLong written = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SeatState> seats = new ArrayList<>();
+        for (long id = 1; id <= STUDENTS; id++) {
+            seats.add(new SeatState(id, "student" + id, (int) id, StudentStatus.ABSENT, null, 1L));
+        }
+        SeatMapSnapshot snapshot = new SeatMapSnapshot(1L, List.copyOf(seats), new byte[0]);
+
+        SeatMapService seatMapService = new SeatMapService() {
+            @Override
+            public SeatMapSnapshot snapshot() {
+                return snapshot;
+            }
+
+            @Override
+            public void writeChangesSince(long sinceVersion, OutputStream out) {
+                // 체크인 경로에서는 쓰지 않는다
+            }
+
+            @Override
+            public void invalidate() {
+            }
+        };
+        StudentService studentService = new StudentService() {
+            @Override
+            public StudentPageResponse findPage(Integer page, int size, Integer afterSeatNum, Long afterId, StudentStatus status) {
+                return new StudentPageResponse(List.of(), null, null, 0L);
+            }
+
+            @Override
+            public List<StudentStatusUpdateResult> updateStatuses(List<StudentStatusUpdateRequest> requests, String recordedBy) {
+                written.addAndGet(requests.size());
+                return List.of();
+            }
+
+            @Override
+            public List<StudentAccount> findAccounts() {
+                List<StudentAccount> accounts = new ArrayList<>();
+                for (long id = 1; id <= STUDENTS; id++) {
+                    accounts.add(new StudentAccount("student" + id, id));
+                }
+                return accounts;
+            }
+        };
+
+        service = new QrCheckInServiceImpl(studentService, seatMapService,
+                "benchmark-secret-benchmark-secret-benchmark-secret", 30, "09:10", 1_000_000, 200);
+        service.reloadStudentIds();
+        payload = service.issue().payload();
+        usernames = new String[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            usernames[i] = "student" + (i + 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STUDENTS)
+    public void checkInAndFlush(Blackhole blackhole) {
+        for (String username : usernames) {
+            blackhole.consume(service.checkIn(username, payload));
+        }
+        service.flush();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public QrCheckInResult checkInOnly() {
+        QrCheckInResult result = service.checkIn(usernames[0], payload);
+        if (result == QrCheckInResult.BUSY) {
+            service.flush();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,285 @@
+package elice.yeardreamback.chatbot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * FAQ 역색인과 BM25 순위.
+ * 문서는 내부 슬롯 번호(int)로 관리하고 토큰마다 (슬롯, 빈도) 배열을 둔다.
+ * 질문 토큰은 답변 토큰보다 QUESTION_WEIGHT배로 센다 (사용자는 보통 질문과 비슷하게 묻는다).
+ * 검색은 읽기 잠금, 추가/수정/삭제는 쓰기 잠금으로 해당 문서의 토큰만 고친다.
+ * 점수 누적용 배열은 코어 수만큼만 풀에 두고 빌려 쓴다. 가상 스레드는 요청마다 새로 생기므로 ThreadLocal에 두면
+ * 검색할 때마다 문서 수 크기의 배열을 새로 만든다. 풀이 비면 그 검색만 새로 만들고, 돌려줄 때 풀이 차 있으면 버린다.
+ */
+public class FaqIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int QUESTION_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final BlockingQueue<Scratch> scratchPool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private Doc[] docs = new Doc[16];
+    // 슬롯별 문서 길이 (점수 계산 때 Doc을 따라가지 않도록 따로 둔다)
+    private int[] lengths = new int[16];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private long totalLength;
+
+    public void upsert(long id, String question, String answer) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        KoreanNgramTokenizer.tokenize(question).forEach(token -> frequencies.merge(token, QUESTION_WEIGHT, Integer::sum));
+        KoreanNgramTokenizer.tokenize(answer).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int slot = allocateSlot();
+            docs[slot] = new Doc(id, question, answer, length, frequencies.keySet().toArray(String[]::new));
+            lengths[slot] = length;
+            slotById.put(id, slot);
+            totalLength += length;
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new Postings()).add(slot, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 limit개. 겹치는 토큰이 하나도 없으면 빈 목록.
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = slotById.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / docCount;
+            double constantNorm = K1 * (1 - B);
+            double lengthNorm = K1 * B / averageLength;
+            Scratch s = scratchPool.poll();
+            if (s == null) {
+                s = new Scratch();
+            }
+            s.ensureCapacity(docs.length);
+
+            try {
+                // idf가 큰 (드문) 토큰부터 처리
+                List<Postings> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    Postings list = postings.get(term);
+                    if (list != null) {
+                        lists.add(list);
+                    }
+                }
+                lists.sort((a, b) -> Integer.compare(a.size, b.size));
+                double[] idfs = new double[lists.size()];
+                double[] remainingBound = new double[lists.size() + 1];
+                for (int t = lists.size() - 1; t >= 0; t--) {
+                    idfs[t] = Math.log(1 + (docCount - lists.get(t).size + 0.5) / (lists.get(t).size + 0.5));
+                    remainingBound[t] = remainingBound[t + 1] + idfs[t] * (K1 + 1);
+                }
+
+                for (int t = 0; t < lists.size(); t++) {
+                    // 남은 토큰 점수를 다 더해도 현재 limit번째 점수를 못 넘으면 새 후보는 더 볼 필요가 없다 (MaxScore)
+                    boolean candidatesOnly = s.touchedCount >= limit && remainingBound[t] <= s.kthScore(limit);
+                    Postings list = lists.get(t);
+                    int[] slots = list.slots;
+                    int[] frequencies = list.frequencies;
+                    double[] scores = s.scores;
+                    double weight = idfs[t] * (K1 + 1);
+                    for (int i = 0; i < list.size; i++) {
+                        int slot = slots[i];
+                        double current = scores[slot];
+                        if (current == 0) {
+                            if (candidatesOnly) {
+                                continue;
+                            }
+                            s.touched[s.touchedCount++] = slot;
+                        }
+                        int frequency = frequencies[i];
+                        scores[slot] = current + weight * frequency / (frequency + constantNorm + lengthNorm * lengths[slot]);
+                    }
+                }
+                return s.top(limit, docs);
+            } finally {
+                s.clear();
+                scratchPool.offer(s);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Doc doc = docs[slot];
+        for (String term : doc.terms) {
+            Postings list = postings.get(term);
+            list.remove(slot);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= doc.length;
+        docs[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == docs.length) {
+            docs = Arrays.copyOf(docs, slotCount * 2);
+            lengths = Arrays.copyOf(lengths, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    public record Hit(long id, String question, String answer, double score) {}
+
+    private record Doc(long id, String question, String answer, int length, String[] terms) {}
+
+    // 토큰 하나의 (슬롯, 빈도) 목록. 삭제는 마지막 항목과 자리를 바꾼다
+    private static class Postings {
+
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int slot, int frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    // 검색 한 번의 슬롯별 점수 (점수가 생긴 슬롯만 기록해 두었다가 그것만 지운다)
+    private static class Scratch {
+
+        private double[] scores = new double[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        private void ensureCapacity(int capacity) {
+            if (scores.length < capacity) {
+                scores = new double[capacity];
+                touched = new int[capacity];
+            }
+        }
+
+        // 지금까지 limit번째로 높은 점수
+        private double kthScore(int limit) {
+            double[] best = new double[limit];
+            for (int i = 0; i < touchedCount; i++) {
+                double score = scores[touched[i]];
+                if (score <= best[limit - 1]) {
+                    continue;
+                }
+                int position = limit - 1;
+                while (position > 0 && best[position - 1] < score) {
+                    best[position] = best[position - 1];
+                    position--;
+                }
+                best[position] = score;
+            }
+            return best[limit - 1];
+        }
+
+        // 작은 배열에 삽입 정렬 (limit은 한 자리 수)
+        private List<Hit> top(int limit, Doc[] docs) {
+            int[] best = new int[Math.min(limit, touchedCount)];
+            if (best.length == 0) {
+                return List.of();
+            }
+            int count = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                double score = scores[slot];
+                if (count == best.length && score <= scores[best[count - 1]]) {
+                    continue;
+                }
+                int position = count < best.length ? count++ : count - 1;
+                while (position > 0 && scores[best[position - 1]] < score) {
+                    best[position] = best[position - 1];
+                    position--;
+                }
+                best[position] = slot;
+            }
+
+            List<Hit> hits = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Doc doc = docs[best[i]];
+                hits.add(new Hit(doc.id, doc.question, doc.answer, scores[best[i]]));
+            }
+            return hits;
+        }
+
+        private void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
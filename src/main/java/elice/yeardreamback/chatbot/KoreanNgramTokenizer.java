@@ -0,0 +1,65 @@
+package elice.yeardreamback.chatbot;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * FAQ 검색용 토크나이저.
+ * 한글은 띄어쓰기와 조사가 제각각이라 (예: "수업시간은", "수업 시간") 음절 바이그램으로 자르고,
+ * 영문/숫자는 단어 단위로 자른다. 한 음절짜리 한글 단어는 그대로 토큰이 된다.
+ * 입력은 NFKC로 정규화해서 분리된 자모와 전각 문자를 합친다.
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (isHangul(c)) {
+                int end = start + 1;
+                while (end < length && isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                addBigrams(normalized, start, end, tokens);
+                start = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = start + 1;
+                while (end < length && !isHangul(normalized.charAt(end)) && Character.isLetterOrDigit(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(normalized.substring(start, end));
+                start = end;
+            } else {
+                start++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 완성형 한글 음절 (가-힣)
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,49 @@
+package elice.yeardreamback.chatbot;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 답변 캐시 키용 질문 정규화.
+ * NFKC로 조합형/분해형 한글과 전각 문자를 통일하고, 음절을 이루지 못한 낱자모("ㅋㅋ", "ㅠㅠ")와 문장 부호를 지운 뒤
+ * 공백을 하나로 줄인다. "수업 몇 시에 시작해요??ㅠㅠ"와 "수업  몇 시에 시작해요"는 같은 키가 된다.
+ */
+public final class QueryNormalizer {
+
+    private QueryNormalizer() {
+    }
+
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isJamo(c)) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && !key.isEmpty()) {
+                key.append(' ');
+            }
+            pendingSpace = false;
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    // 한글 자모, 호환용 자모, 자모 확장 A/B
+    private static boolean isJamo(char c) {
+        return (c >= 'ᄀ' && c <= 'ᇿ')
+                || (c >= 'ㄱ' && c <= 'ㆎ')
+                || (c >= 'ꥠ' && c <= '꥿')
+                || (c >= 'ힰ' && c <= '퟿');
+    }
+}
@@ -0,0 +1,15 @@
+package elice.yeardreamback.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // 리플렉션 대신 LambdaMetafactory로 만든 접근자로 게터/생성자를 호출 (Boot가 ObjectMapper에 자동 등록)
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,18 @@
+package elice.yeardreamback.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator/Micrometer 기본 설정.
+ * JVM, GC, Hikari, Lettuce 명령, Spring Data 리포지토리 호출, HTTP 요청 지표는 자동 구성되고
+ * 관리 포트(management.server.port)의 /actuator/prometheus 로 수집한다.
+ * 직접 등록하는 지표:
+ * - jwt.filter (outcome=no_token|expired|invalid|revoked|revocation_unavailable|valid): JWTFilter 자체 처리 시간
+ * - token.revocation.redis (command=revoke|lookup|scan): TokenServiceImpl의 폐기 목록 Redis 호출
+ * - cache.* (cache=jwt.claims|user.profile|calendar.events|chatbot.answers): Caffeine 캐시 통계
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+}
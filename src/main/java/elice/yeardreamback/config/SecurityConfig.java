@@ -1,13 +1,17 @@
 package elice.yeardreamback.config;
 
 import elice.yeardreamback.jwt.JWTFilter;
-import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.jwt.JWTClaimsCache;
 import elice.yeardreamback.oauth2.CustomSuccessHandler;
 import elice.yeardreamback.service.CustomOAuth2UserService;
+import elice.yeardreamback.service.impl.TokenServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
@@ -27,12 +31,19 @@ public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
-    private final JWTUtil jwtUtil;
+    private final JWTClaimsCache jwtClaimsCache;
+    private final TokenServiceImpl tokenServiceImpl;
+    private final MeterRegistry meterRegistry;
+    private final int managementPort;
 
-    public SecurityConfig(CustomOAuth2UserService customOAuth2UserService, CustomSuccessHandler customSuccessHandler, JWTUtil jwtUtil) {
+    public SecurityConfig(CustomOAuth2UserService customOAuth2UserService, CustomSuccessHandler customSuccessHandler, JWTClaimsCache jwtClaimsCache, TokenServiceImpl tokenServiceImpl, MeterRegistry meterRegistry,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.customSuccessHandler = customSuccessHandler;
-        this.jwtUtil = jwtUtil;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.tokenServiceImpl = tokenServiceImpl;
+        this.meterRegistry = meterRegistry;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -76,7 +87,7 @@ public class SecurityConfig {
 
         // JWTFilter 추가
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JWTFilter(jwtClaimsCache, tokenServiceImpl, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         // oauth2
         http
@@ -94,8 +105,33 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/oauth2/authorization/**",
-                                "/api/token/refresh"
+                                "/api/token/refresh",
+                                "/.well-known/jwks.json",
+                                "/actuator/health"
                         ).permitAll()
+                        // 지표 수집은 관리 포트로 들어온 요청만 인증 없이 받고, 그 외 Actuator는 관리자만
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // 커리큘럼 소개는 로그인 없이 볼 수 있다
+                        .requestMatchers(HttpMethod.GET, "/api/curriculum").permitAll()
+                        // 출석 상태 변경은 코치와 관리자만
+                        .requestMatchers(HttpMethod.PATCH, "/api/students/status").hasAnyRole("COACH", "ADMIN")
+                        // 날짜별 전체 출석 이력과 월별 리포트는 코치와 관리자만 (학생별 이력은 컨트롤러에서 본인인지 확인)
+                        .requestMatchers(HttpMethod.GET, "/api/attendance/history", "/api/attendance/report").hasAnyRole("COACH", "ADMIN")
+                        // 출석 집계 재실행은 관리자만
+                        .requestMatchers(HttpMethod.POST, "/api/attendance/rollup").hasRole("ADMIN")
+                        // 강의실 QR 발급은 코치와 관리자만
+                        .requestMatchers(HttpMethod.GET, "/api/attendance/qr").hasAnyRole("COACH", "ADMIN")
+                        // FAQ 등록/수정/삭제는 코치와 관리자만 (조회와 챗봇 질문은 로그인한 누구나)
+                        .requestMatchers(HttpMethod.POST, "/api/chatbot/faqs").hasAnyRole("COACH", "ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/chatbot/faqs/**").hasAnyRole("COACH", "ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/chatbot/faqs/**").hasAnyRole("COACH", "ADMIN")
+                        // 일정 등록/수정/삭제와 커리큘럼 다시 읽기는 코치와 관리자만
+                        .requestMatchers(HttpMethod.POST, "/api/calendar/events").hasAnyRole("COACH", "ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/calendar/events/**").hasAnyRole("COACH", "ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/calendar/events/**").hasAnyRole("COACH", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/curriculum/reload").hasAnyRole("COACH", "ADMIN")
                         .anyRequest().authenticated()
                 );
 
@@ -0,0 +1,57 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.AttendanceDailyResponse;
+import elice.yeardreamback.dto.AttendanceRecordResponse;
+import elice.yeardreamback.dto.AttendanceSummaryResponse;
+import elice.yeardreamback.dto.CustomOAuth2User;
+import elice.yeardreamback.service.AttendanceHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendance")
+public class AttendanceHistoryController {
+
+    private final AttendanceHistoryService attendanceHistoryService;
+
+    public AttendanceHistoryController(AttendanceHistoryService attendanceHistoryService) {
+        this.attendanceHistoryService = attendanceHistoryService;
+    }
+
+    // 특정 날짜의 전체 좌석 출석 이력
+    @GetMapping("/history")
+    public List<AttendanceRecordResponse> findByDate(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return attendanceHistoryService.findByDate(date);
+    }
+
+    // 한 학생의 기간별 일자 출석 상태 (학생 본인 또는 코치/관리자만)
+    @GetMapping("/history/students/{studentId}")
+    public ResponseEntity<List<AttendanceDailyResponse>> findByStudent(@PathVariable Long studentId,
+                                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                       @AuthenticationPrincipal CustomOAuth2User user) {
+        if (!user.isStaff() && !attendanceHistoryService.isOwnRecord(studentId, user.getUsername())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(attendanceHistoryService.findByStudent(studentId, from, to));
+    }
+
+    // 월별 학생 출석 요약 (예: month=2025-03)
+    @GetMapping("/report")
+    public List<AttendanceSummaryResponse> summarizeMonth(@RequestParam YearMonth month) {
+        return attendanceHistoryService.summarizeMonth(month);
+    }
+
+    // 특정 날짜 집계를 다시 실행
+    @PostMapping("/rollup")
+    public void rollup(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        attendanceHistoryService.rollup(date);
+    }
+}
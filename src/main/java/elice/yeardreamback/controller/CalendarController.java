@@ -0,0 +1,76 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.CachedJson;
+import elice.yeardreamback.dto.CalendarEventRequest;
+import elice.yeardreamback.dto.CalendarEventResponse;
+import elice.yeardreamback.service.CalendarService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@RestController
+@RequestMapping("/api/calendar/events")
+public class CalendarController {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final CalendarService calendarService;
+
+    public CalendarController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    /**
+     * 기간 (양 끝 포함)과 겹치는 일정. 캐시해 둔 본문과 ETag를 그대로 쓰고,
+     * If-None-Match가 같으면 본문 없이 304로 답한다.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> findEvents(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            return ResponseEntity.badRequest().build();
+        }
+        CachedJson events = calendarService.findEvents(from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(events.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate())
+                .body(events.json());
+    }
+
+    @PostMapping
+    public ResponseEntity<CalendarEventResponse> create(@RequestBody CalendarEventRequest request) {
+        if (!isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(calendarService.create(request));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<CalendarEventResponse> update(@PathVariable Long id, @RequestBody CalendarEventRequest request) {
+        if (!isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return calendarService.update(id, request)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        return calendarService.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    // 제목과 시작/종료 시각은 필수, 종료가 시작보다 앞설 수 없다
+    private static boolean isValid(CalendarEventRequest request) {
+        return request.getTitle() != null && !request.getTitle().isBlank()
+                && request.getStartAt() != null && request.getEndAt() != null
+                && !request.getEndAt().isBefore(request.getStartAt());
+    }
+}
@@ -0,0 +1,59 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.ChatbotRequest;
+import elice.yeardreamback.dto.FaqRequest;
+import elice.yeardreamback.dto.FaqResponse;
+import elice.yeardreamback.service.ChatbotService;
+import elice.yeardreamback.service.FaqService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/chatbot")
+public class ChatbotController {
+
+    private static final int MAX_ANSWERS = 10;
+    // faq.question 컬럼 길이와 같다 (이보다 긴 질문은 정규화와 검색 전에 거절)
+    private static final int MAX_QUESTION_LENGTH = 500;
+
+    private final ChatbotService chatbotService;
+    private final FaqService faqService;
+
+    public ChatbotController(ChatbotService chatbotService, FaqService faqService) {
+        this.chatbotService = chatbotService;
+        this.faqService = faqService;
+    }
+
+    // 질문과 가장 비슷한 FAQ 답변 (점수 높은 순)
+    @PostMapping
+    public ResponseEntity<?> ask(@RequestBody ChatbotRequest request, @RequestParam(defaultValue = "3") int limit) {
+        if (request.getQuestion() != null && request.getQuestion().length() > MAX_QUESTION_LENGTH) {
+            return ResponseEntity.badRequest().body("질문은 " + MAX_QUESTION_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        return ResponseEntity.ok(chatbotService.ask(request.getQuestion(), Math.min(Math.max(limit, 1), MAX_ANSWERS)));
+    }
+
+    @GetMapping("/faqs")
+    public List<FaqResponse> findFaqs() {
+        return faqService.findAll();
+    }
+
+    @PostMapping("/faqs")
+    public FaqResponse createFaq(@RequestBody FaqRequest request) {
+        return faqService.create(request);
+    }
+
+    @PutMapping("/faqs/{id}")
+    public ResponseEntity<FaqResponse> updateFaq(@PathVariable Long id, @RequestBody FaqRequest request) {
+        return faqService.update(id, request)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/faqs/{id}")
+    public ResponseEntity<Void> deleteFaq(@PathVariable Long id) {
+        return faqService.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
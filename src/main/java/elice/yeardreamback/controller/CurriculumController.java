@@ -0,0 +1,40 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.CachedJson;
+import elice.yeardreamback.service.CurriculumService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class CurriculumController {
+
+    private final CurriculumService curriculumService;
+
+    public CurriculumController(CurriculumService curriculumService) {
+        this.curriculumService = curriculumService;
+    }
+
+    // 커리큘럼 소개 (미리 만들어 둔 본문, If-None-Match가 같으면 304)
+    @GetMapping("/api/curriculum")
+    public ResponseEntity<byte[]> curriculum() {
+        CachedJson curriculum = curriculumService.curriculum();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(curriculum.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .body(curriculum.json());
+    }
+
+    // 내용 파일을 고친 뒤 다음 주기를 기다리지 않고 바로 다시 읽는다
+    @PostMapping("/api/curriculum/reload")
+    public ResponseEntity<Void> reload() {
+        curriculumService.reload();
+        return ResponseEntity.noContent().build();
+    }
+}
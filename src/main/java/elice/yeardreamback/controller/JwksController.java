@@ -0,0 +1,31 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.jwt.SigningKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+
+    public JwksController(SigningKeyRing signingKeyRing) {
+        this.signingKeyRing = signingKeyRing;
+    }
+
+    /**
+     * 토큰 검증용 공개키 목록 (JWKS).
+     * 다른 서비스는 토큰의 kid로 키를 찾아 직접 검증한다. HS256 모드에서는 빈 목록이다.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(signingKeyRing.jwks());
+    }
+}
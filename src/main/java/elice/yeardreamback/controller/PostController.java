@@ -0,0 +1,102 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.CommentPageResponse;
+import elice.yeardreamback.dto.CommentRequest;
+import elice.yeardreamback.dto.CommentResponse;
+import elice.yeardreamback.dto.CustomOAuth2User;
+import elice.yeardreamback.dto.PostPageResponse;
+import elice.yeardreamback.dto.PostRequest;
+import elice.yeardreamback.dto.PostResponse;
+import elice.yeardreamback.enums.BoardResult;
+import elice.yeardreamback.service.BoardService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardService boardService;
+
+    public PostController(BoardService boardService) {
+        this.boardService = boardService;
+    }
+
+    // 최신 글부터, 이전 응답의 nextBeforeCreatedAt/nextBeforeId를 넘기면 다음 페이지 (notice=true면 공지사항만)
+    @GetMapping
+    public PostPageResponse findPosts(@RequestParam(required = false) Boolean notice,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+                                      @RequestParam(required = false) Long beforeId,
+                                      @RequestParam(required = false) Integer size) {
+        return boardService.findPosts(notice, beforeCreatedAt, beforeId, pageSize(size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PostResponse> viewPost(@PathVariable Long id) {
+        return boardService.viewPost(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 공지사항은 코치와 관리자만 올린다
+    @PostMapping
+    public ResponseEntity<PostResponse> createPost(@AuthenticationPrincipal CustomOAuth2User user, @RequestBody PostRequest request) {
+        if (request.isNotice() && !user.isStaff()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(boardService.createPost(request, user.getUsername(), user.getName()));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> updatePost(@AuthenticationPrincipal CustomOAuth2User user, @PathVariable Long id, @RequestBody PostRequest request) {
+        return toResponse(boardService.updatePost(id, request, user.getUsername(), user.isStaff()));
+    }
+
+    // 작성자 본인, 또는 코치와 관리자 (관리 목적 삭제)
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletePost(@AuthenticationPrincipal CustomOAuth2User user, @PathVariable Long id) {
+        return toResponse(boardService.deletePost(id, user.getUsername(), user.isStaff()));
+    }
+
+    // 작성 순서대로, 이전 응답의 nextAfterCreatedAt/nextAfterId를 넘기면 다음 페이지
+    @GetMapping("/{id}/comments")
+    public CommentPageResponse findComments(@PathVariable Long id,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterCreatedAt,
+                                            @RequestParam(required = false) Long afterId,
+                                            @RequestParam(required = false) Integer size) {
+        return boardService.findComments(id, afterCreatedAt, afterId, pageSize(size));
+    }
+
+    @PostMapping("/{id}/comments")
+    public ResponseEntity<CommentResponse> addComment(@AuthenticationPrincipal CustomOAuth2User user, @PathVariable Long id, @RequestBody CommentRequest request) {
+        return boardService.addComment(id, request, user.getUsername(), user.getName())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 작성자 본인, 또는 코치와 관리자
+    @DeleteMapping("/{id}/comments/{commentId}")
+    public ResponseEntity<Void> deleteComment(@AuthenticationPrincipal CustomOAuth2User user, @PathVariable Long id, @PathVariable Long commentId) {
+        return toResponse(boardService.deleteComment(id, commentId, user.getUsername(), user.isStaff()));
+    }
+
+    private static int pageSize(Integer size) {
+        return Math.max(Math.min(size != null ? size : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE), 1);
+    }
+
+    private static ResponseEntity<Void> toResponse(BoardResult result) {
+        return switch (result) {
+            case OK -> ResponseEntity.noContent().build();
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case FORBIDDEN -> ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package elice.yeardreamback.controller;
+
+import elice.yeardreamback.dto.CustomOAuth2User;
+import elice.yeardreamback.dto.QrCheckInRequest;
+import elice.yeardreamback.dto.QrCodeResponse;
+import elice.yeardreamback.enums.QrCheckInResult;
+import elice.yeardreamback.service.QrCheckInService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/attendance/qr")
+public class QrCheckInController {
+
+    private final QrCheckInService qrCheckInService;
+
+    public QrCheckInController(QrCheckInService qrCheckInService) {
+        this.qrCheckInService = qrCheckInService;
+    }
+
+    // 강의실 화면에 띄울 QR 페이로드 (코치 전용, 시간창이 지나면 다시 발급)
+    @GetMapping
+    public QrCodeResponse issue() {
+        return qrCheckInService.issue();
+    }
+
+    // QR 스캔 접수. 출석 대상은 로그인한 학생 본인 (실제 반영은 잠시 후 일괄 처리)
+    @PostMapping
+    public ResponseEntity<String> checkIn(@AuthenticationPrincipal CustomOAuth2User user, @RequestBody QrCheckInRequest request) {
+        QrCheckInResult result = qrCheckInService.checkIn(user != null ? user.getUsername() : null, request.getPayload());
+        return switch (result) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.ACCEPTED).body("출석 체크가 접수되었습니다.");
+            case INVALID -> ResponseEntity.badRequest().body("유효하지 않거나 만료된 QR 코드입니다.");
+            case NOT_STUDENT -> ResponseEntity.status(HttpStatus.FORBIDDEN).body("학생으로 등록된 계정이 아닙니다.");
+            case BUSY -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("잠시 후 다시 시도해주세요.");
+        };
+    }
+}
@@ -1,27 +1,88 @@
 package elice.yeardreamback.controller;
 
-import elice.yeardreamback.dto.StudentResponse;
-import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.dto.CustomOAuth2User;
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import elice.yeardreamback.dto.StudentStatusUpdateRequest;
+import elice.yeardreamback.dto.StudentStatusUpdateResult;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.service.AttendanceStreamService;
+import elice.yeardreamback.service.SeatMapService;
 import elice.yeardreamback.service.StudentService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("api/students")
 public class StudentController {
 
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final StudentService studentService;
+    private final AttendanceStreamService attendanceStreamService;
+    private final SeatMapService seatMapService;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, AttendanceStreamService attendanceStreamService, SeatMapService seatMapService) {
         this.studentService = studentService;
+        this.attendanceStreamService = attendanceStreamService;
+        this.seatMapService = seatMapService;
     }
 
+    /**
+     * 페이지/필터 조건이 없으면 미리 직렬화해 둔 좌석 배치도 (ETag가 같으면 304),
+     * 있으면 필요한 컬럼만 읽는 페이지 단위 목록을 돌려준다.
+     */
     @GetMapping
-    public List<StudentResponse> findAll() {
-        return studentService.findAll();
+    public ResponseEntity<?> findAll(@RequestParam(required = false) Integer page,
+                                     @RequestParam(required = false) Integer size,
+                                     @RequestParam(required = false) Integer afterSeatNum,
+                                     @RequestParam(required = false) Long afterId,
+                                     @RequestParam(required = false) StudentStatus status) {
+        if (page != null || size != null || afterSeatNum != null || afterId != null || status != null) {
+            if (page != null && page < 0) {
+                return ResponseEntity.badRequest().body("page는 0 이상이어야 합니다.");
+            }
+            int pageSize = Math.min(size != null ? size : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+            return ResponseEntity.ok(studentService.findPage(page, Math.max(pageSize, 1), afterSeatNum, afterId, status));
+        }
+
+        SeatMapSnapshot snapshot = seatMapService.snapshot();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(Long.toString(snapshot.version()))
+                .header(SEAT_MAP_VERSION_HEADER, Long.toString(snapshot.version()))
+                .body(snapshot.json());
+    }
+
+    // sinceVersion 이후에 바뀐 좌석만 조회 (목록을 만들지 않고 응답 스트림에 바로 쓴다)
+    @GetMapping(params = "sinceVersion")
+    public void findChanges(@RequestParam long sinceVersion, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        seatMapService.writeChangesSince(sinceVersion, response.getOutputStream());
+    }
+
+    // 실시간 출석 현황 (최초 스냅샷 + 좌석별 변경)
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return attendanceStreamService.subscribe();
+    }
+
+    // 여러 좌석의 출석 상태를 한 번에 변경
+    @PatchMapping("/status")
+    public List<StudentStatusUpdateResult> updateStatuses(@AuthenticationPrincipal CustomOAuth2User user, @RequestBody List<StudentStatusUpdateRequest> requests) {
+        return studentService.updateStatuses(requests, user != null ? user.getUsername() : null);
     }
 }
@@ -1,8 +1,14 @@
 package elice.yeardreamback.controller;
 
+import elice.yeardreamback.dto.RefreshRotation;
+import elice.yeardreamback.enums.RefreshResult;
 import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.jwt.JwtClaims;
+import elice.yeardreamback.service.impl.RefreshTokenServiceImpl;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,16 +20,19 @@ import java.util.Map;
 public class TokenController {
 
     private final JWTUtil jwtUtil;
+    private final RefreshTokenServiceImpl refreshTokenServiceImpl;
 
-    public TokenController(JWTUtil jwtUtil) {
+    public TokenController(JWTUtil jwtUtil, RefreshTokenServiceImpl refreshTokenServiceImpl) {
         this.jwtUtil = jwtUtil;
+        this.refreshTokenServiceImpl = refreshTokenServiceImpl;
     }
 
     /**
-     * 쿠키에 담긴 리프레시 토큰으로 새 액세스 토큰 발급
+     * 쿠키에 담긴 리프레시 토큰으로 새 액세스 토큰 발급.
+     * 리프레시 토큰도 매번 새로 발급하고, 이미 사용된 토큰이 다시 오면 해당 계열 전체를 폐기한다.
      */
     @GetMapping("/refresh")
-    public ResponseEntity<?> refreshToken(HttpServletRequest request) {
+    public ResponseEntity<?> refreshToken(HttpServletRequest request, HttpServletResponse response) {
 
         Cookie[] cookies = request.getCookies();
         if (cookies == null) {
@@ -38,14 +47,34 @@ public class TokenController {
             }
         }
 
-        if (refreshToken == null || jwtUtil.isExpired(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
+        if (refreshToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token invalid or expired");
+        }
+
+        // 리프레시 토큰은 한 번만 검증해서 클레임을 꺼낸다
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parse(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token invalid or expired");
+        }
+
+        if (!claims.isRefreshToken()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token invalid or expired");
         }
 
         // 리프레시 토큰에서 사용자 정보 가져오기
-        String username = jwtUtil.getUsername(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
-        String name = jwtUtil.getName(refreshToken);
+        String username = claims.username();
+        String role = claims.role();
+        String name = claims.name();
+
+        RefreshRotation rotation = refreshTokenServiceImpl.rotate(claims);
+        if (rotation.result() != RefreshResult.ROTATED) {
+            response.addCookie(refreshCookie(null, 0));
+            String message = rotation.result() == RefreshResult.REUSED ? "Refresh token reuse detected" : "Refresh token invalid or expired";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(message);
+        }
+        response.addCookie(refreshCookie(rotation.refreshToken(), (int) (refreshTokenServiceImpl.getRefreshExpiredMs() / 1000)));
 
         // 새 액세스 토큰 발급
         long accessExp = 60 * 60 * 1000L; // 1시간
@@ -53,4 +82,13 @@ public class TokenController {
 
         return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
     }
+
+    private Cookie refreshCookie(String value, int maxAge) {
+        Cookie cookie = new Cookie("refreshToken", value);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(false);
+        cookie.setPath("/");
+        cookie.setMaxAge(maxAge);
+        return cookie;
+    }
 }
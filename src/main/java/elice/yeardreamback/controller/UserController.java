@@ -4,7 +4,7 @@ import elice.yeardreamback.dto.CustomOAuth2User;
 import elice.yeardreamback.dto.LoginUserResponse;
 import elice.yeardreamback.dto.LogoutRequest;
 import elice.yeardreamback.dto.UpdateUserRequest;
-import elice.yeardreamback.entity.User;
+import elice.yeardreamback.dto.UserResponse;
 import elice.yeardreamback.exception.UserNotAuthenticatedException;
 import elice.yeardreamback.service.UserService;
 import jakarta.servlet.http.Cookie;
@@ -15,8 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
-
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
@@ -48,21 +46,24 @@ public class UserController {
         }
     }
 
+    // 없는 사용자면 404
     @GetMapping("/{username}")
-    public Optional<User> findUserByUsername(@PathVariable String username) {
-        return userService.findUserByUsername(username);
+    public ResponseEntity<UserResponse> findUserByUsername(@PathVariable String username) {
+        return userService.findUserByUsername(username)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PatchMapping("/{username}")
-    public User updateUser(@PathVariable String username, @RequestBody UpdateUserRequest updateUserRequest) {
-        return userService.updateUser(
+    public UserResponse updateUser(@PathVariable String username, @RequestBody UpdateUserRequest updateUserRequest) {
+        return UserResponse.fromEntity(userService.updateUser(
                 username,
                 updateUserRequest.getName(),
                 updateUserRequest.getRole(),
                 updateUserRequest.getEmail(),
                 updateUserRequest.getProfileImg(),
                 updateUserRequest.getPhone()
-        );
+        ));
     }
 
     @PostMapping("/logout")
@@ -85,6 +86,11 @@ public class UserController {
 
         userService.logoutUser(refreshToken);
 
+        // 아직 만료되지 않은 액세스 토큰도 함께 폐기
+        if (authorizationHeader.startsWith("Bearer ")) {
+            userService.logoutUser(authorizationHeader.substring(7));
+        }
+
         Cookie deleteCookie = new Cookie("refreshToken", null);
         deleteCookie.setHttpOnly(true);
         deleteCookie.setSecure(false);
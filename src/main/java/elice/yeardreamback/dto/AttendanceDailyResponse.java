@@ -0,0 +1,21 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.AttendanceDaily;
+import elice.yeardreamback.enums.StudentStatus;
+
+import java.time.LocalDate;
+
+public record AttendanceDailyResponse(
+        Long studentId,
+        LocalDate attendanceDate,
+        StudentStatus status
+) {
+
+    public static AttendanceDailyResponse fromEntity(AttendanceDaily daily) {
+        return new AttendanceDailyResponse(
+                daily.getStudentId(),
+                daily.getAttendanceDate(),
+                daily.getStatus()
+        );
+    }
+}
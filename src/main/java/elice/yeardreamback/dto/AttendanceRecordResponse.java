@@ -0,0 +1,26 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.AttendanceRecord;
+import elice.yeardreamback.enums.StudentStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AttendanceRecordResponse(
+        Long studentId,
+        LocalDate attendanceDate,
+        StudentStatus status,
+        String recordedBy,
+        LocalDateTime recordedAt
+) {
+
+    public static AttendanceRecordResponse fromEntity(AttendanceRecord record) {
+        return new AttendanceRecordResponse(
+                record.getStudentId(),
+                record.getAttendanceDate(),
+                record.getStatus(),
+                record.getRecordedBy(),
+                record.getRecordedAt()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package elice.yeardreamback.dto;
+
+public record AttendanceSummaryResponse(
+        Long studentId,
+        Long presentDays,
+        Long lateDays,
+        Long absentDays
+) {}
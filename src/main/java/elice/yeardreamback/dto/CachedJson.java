@@ -0,0 +1,22 @@
+package elice.yeardreamback.dto;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+// 미리 직렬화해 둔 JSON 본문과 본문 해시로 만든 ETag (같은 내용이면 어느 인스턴스에서든 같은 값)
+public record CachedJson(
+        byte[] json,
+        String etag
+) {
+
+    public static CachedJson of(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new CachedJson(json, "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
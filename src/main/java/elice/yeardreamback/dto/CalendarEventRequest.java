@@ -0,0 +1,17 @@
+package elice.yeardreamback.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class CalendarEventRequest {
+    private String title;
+    private String description;
+    private String location;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private boolean allDay;
+}
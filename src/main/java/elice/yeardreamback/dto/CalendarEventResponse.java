@@ -0,0 +1,28 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.CalendarEvent;
+
+import java.time.LocalDateTime;
+
+public record CalendarEventResponse(
+        Long id,
+        String title,
+        String description,
+        String location,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        boolean allDay
+) {
+
+    public static CalendarEventResponse fromEntity(CalendarEvent event) {
+        return new CalendarEventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getLocation(),
+                event.getStartAt(),
+                event.getEndAt(),
+                event.isAllDay()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package elice.yeardreamback.dto;
+
+// 질문과 가장 비슷한 FAQ (score는 BM25 점수)
+public record ChatbotAnswer(
+        Long faqId,
+        String question,
+        String answer,
+        double score
+) {}
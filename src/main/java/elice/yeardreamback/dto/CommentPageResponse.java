@@ -0,0 +1,11 @@
+package elice.yeardreamback.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// nextAfterCreatedAt/nextAfterId는 다음 페이지 요청에 그대로 넘기는 커서 (마지막 페이지면 null)
+public record CommentPageResponse(
+        List<CommentResponse> comments,
+        LocalDateTime nextAfterCreatedAt,
+        Long nextAfterId
+) {}
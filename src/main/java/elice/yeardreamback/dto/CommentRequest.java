@@ -0,0 +1,10 @@
+package elice.yeardreamback.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CommentRequest {
+    private String content;
+}
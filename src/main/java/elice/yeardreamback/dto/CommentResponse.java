@@ -0,0 +1,26 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Comment;
+
+import java.time.LocalDateTime;
+
+public record CommentResponse(
+        Long id,
+        Long postId,
+        String content,
+        String author,
+        String authorName,
+        LocalDateTime createdAt
+) {
+
+    public static CommentResponse fromEntity(Comment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getPostId(),
+                comment.getContent(),
+                comment.getAuthor(),
+                comment.getAuthorName(),
+                comment.getCreatedAt()
+        );
+    }
+}
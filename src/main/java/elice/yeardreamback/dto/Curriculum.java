@@ -0,0 +1,14 @@
+package elice.yeardreamback.dto;
+
+import java.util.List;
+
+// 커리큘럼 소개 페이지 내용 (읽기 전용)
+public record Curriculum(
+        String title,
+        List<CurriculumCourse> courses
+) {
+
+    public Curriculum {
+        courses = courses != null ? List.copyOf(courses) : List.of();
+    }
+}
@@ -0,0 +1,15 @@
+package elice.yeardreamback.dto;
+
+import java.util.List;
+
+public record CurriculumCourse(
+        String title,
+        String period,
+        String description,
+        List<String> topics
+) {
+
+    public CurriculumCourse {
+        topics = topics != null ? List.copyOf(topics) : List.of();
+    }
+}
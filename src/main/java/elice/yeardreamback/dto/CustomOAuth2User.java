@@ -1,5 +1,6 @@
 package elice.yeardreamback.dto;
 
+import elice.yeardreamback.enums.UserRoleType;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -42,4 +43,9 @@ public class CustomOAuth2User implements OAuth2User {
     public String getRole() {
         return userDTO.getRole();
     }
+
+    // 코치와 관리자
+    public boolean isStaff() {
+        return UserRoleType.COACH.name().equals(userDTO.getRole()) || UserRoleType.ADMIN.name().equals(userDTO.getRole());
+    }
 }
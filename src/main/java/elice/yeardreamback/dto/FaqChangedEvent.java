@@ -0,0 +1,20 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Faq;
+
+// FAQ 추가/수정/삭제 (커밋 이후 챗봇 색인에 반영)
+public record FaqChangedEvent(
+        Long id,
+        String question,
+        String answer,
+        boolean deleted
+) {
+
+    public static FaqChangedEvent saved(Faq faq) {
+        return new FaqChangedEvent(faq.getId(), faq.getQuestion(), faq.getAnswer(), false);
+    }
+
+    public static FaqChangedEvent deleted(Long id) {
+        return new FaqChangedEvent(id, null, null, true);
+    }
+}
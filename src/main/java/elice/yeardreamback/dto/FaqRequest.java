@@ -0,0 +1,11 @@
+package elice.yeardreamback.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FaqRequest {
+    private String question;
+    private String answer;
+}
@@ -0,0 +1,22 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Faq;
+
+import java.time.LocalDateTime;
+
+public record FaqResponse(
+        Long id,
+        String question,
+        String answer,
+        LocalDateTime updatedAt
+) {
+
+    public static FaqResponse fromEntity(Faq faq) {
+        return new FaqResponse(
+                faq.getId(),
+                faq.getQuestion(),
+                faq.getAnswer(),
+                faq.getUpdatedAt()
+        );
+    }
+}
@@ -2,15 +2,20 @@ package elice.yeardreamback.dto;
 
 import java.util.Map;
 
-public class GoogleResponse implements OAuth2Response{
-
-    private final Map<String, Object> attribute;
-
-    public GoogleResponse(Map<String, Object> attribute) {
-        this.attribute = attribute;
+public record GoogleResponse(
+        String providerId,
+        String name,
+        String email
+) implements OAuth2Response {
+
+    public static GoogleResponse from(Map<String, Object> attributes) {
+        return new GoogleResponse(
+                attributes.get("sub").toString(),
+                attributes.get("name").toString(),
+                attributes.get("email").toString()
+        );
     }
 
-
     @Override
     public String getProvider() {
         return "google";
@@ -18,16 +23,16 @@ public class GoogleResponse implements OAuth2Response{
 
     @Override
     public String getProviderId() {
-        return attribute.get("sub").toString();
+        return providerId;
     }
 
     @Override
     public String getEmail() {
-        return attribute.get("email").toString();
+        return email;
     }
 
     @Override
     public String getName() {
-        return attribute.get("name").toString();
+        return name;
     }
 }
@@ -2,12 +2,23 @@ package elice.yeardreamback.dto;
 
 import java.util.Map;
 
-public class KakaoResponse implements OAuth2Response {
-
-    private final Map<String, Object> attributes;
-
-    public KakaoResponse(Map<String, Object> attributes) {
-        this.attributes = attributes;
+// 카카오는 닉네임이 kakao_account.profile 아래에 있고 이메일은 동의하지 않으면 빠져 있다
+public record KakaoResponse(
+        String providerId,
+        String name,
+        String email
+) implements OAuth2Response {
+
+    @SuppressWarnings("unchecked")
+    public static KakaoResponse from(Map<String, Object> attributes) {
+        Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
+        Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
+        Object email = kakaoAccount.get("email");
+        return new KakaoResponse(
+                attributes.get("id").toString(),
+                profile.get("nickname").toString(),
+                email != null ? email.toString() : ""
+        );
     }
 
     @Override
@@ -17,19 +28,16 @@ public class KakaoResponse implements OAuth2Response {
 
     @Override
     public String getProviderId() {
-        return attributes.get("id").toString();
+        return providerId;
     }
 
     @Override
     public String getName() {
-        Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
-        Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
-        return profile.get("nickname").toString();
+        return name;
     }
 
     @Override
     public String getEmail() {
-        Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
-        return kakaoAccount.get("email") != null ? kakaoAccount.get("email").toString() : "";
+        return email;
     }
 }
@@ -2,13 +2,21 @@ package elice.yeardreamback.dto;
 
 import java.util.Map;
 
-public class NaverResponse implements OAuth2Response {
-
-    private final Map<String, Object> attribute;
-
-    public NaverResponse(Map<String, Object> attribute) {
-        this.attribute = (Map<String, Object>) attribute.get("response");
-        System.out.println("NAVER ATTRIBUTES: " + attribute);
+// 네이버는 사용자 정보가 response 아래에 들어 있다
+public record NaverResponse(
+        String providerId,
+        String name,
+        String email
+) implements OAuth2Response {
+
+    @SuppressWarnings("unchecked")
+    public static NaverResponse from(Map<String, Object> attributes) {
+        Map<String, Object> response = (Map<String, Object>) attributes.get("response");
+        return new NaverResponse(
+                response.get("id").toString(),
+                response.get("name").toString(),
+                response.get("email").toString()
+        );
     }
 
     @Override
@@ -18,16 +26,16 @@ public class NaverResponse implements OAuth2Response {
 
     @Override
     public String getProviderId() {
-        return attribute.get("id").toString();
+        return providerId;
     }
 
     @Override
     public String getName() {
-        return attribute.get("name").toString();
+        return name;
     }
 
     @Override
     public String getEmail() {
-        return attribute.get("email").toString();
+        return email;
     }
 }
@@ -0,0 +1,12 @@
+package elice.yeardreamback.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PostRequest {
+    private String title;
+    private String content;
+    private boolean notice;
+}
@@ -0,0 +1,35 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Post;
+
+import java.time.LocalDateTime;
+
+public record PostResponse(
+        Long id,
+        String title,
+        String content,
+        String author,
+        String authorName,
+        boolean notice,
+        long viewCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    // viewCount는 아직 DB에 반영되지 않은 조회수를 더한 값
+    public static PostResponse fromEntity(Post post, long viewCount) {
+        return new PostResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getAuthor(),
+                post.getAuthorName(),
+                post.isNotice(),
+                viewCount,
+                post.getCommentCount(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package elice.yeardreamback.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록용 프로젝션 (본문 제외)
+public record PostSummary(
+        Long id,
+        String title,
+        String authorName,
+        boolean notice,
+        long viewCount,
+        int commentCount,
+        LocalDateTime createdAt
+) {
+
+    public PostSummary withViewCount(long viewCount) {
+        return new PostSummary(id, title, authorName, notice, viewCount, commentCount, createdAt);
+    }
+}
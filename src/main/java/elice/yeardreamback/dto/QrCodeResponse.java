@@ -0,0 +1,8 @@
+package elice.yeardreamback.dto;
+
+import java.time.Instant;
+
+public record QrCodeResponse(
+        String payload,
+        Instant expiresAt
+) {}
@@ -0,0 +1,9 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.enums.RefreshResult;
+
+// ROTATED일 때만 refreshToken에 새 토큰이 들어 있다
+public record RefreshRotation(
+        RefreshResult result,
+        String refreshToken
+) {}
@@ -0,0 +1,16 @@
+package elice.yeardreamback.dto;
+
+// 좌석 배치도에 반영된 변경 (reloaded면 배치도를 버렸으니 다음 조회 때 전체를 다시 읽는다)
+public record SeatMapChangedEvent(
+        SeatState seat,
+        boolean reloaded
+) {
+
+    public static SeatMapChangedEvent changed(SeatState seat) {
+        return new SeatMapChangedEvent(seat, false);
+    }
+
+    public static SeatMapChangedEvent reloaded() {
+        return new SeatMapChangedEvent(null, true);
+    }
+}
@@ -0,0 +1,10 @@
+package elice.yeardreamback.dto;
+
+import java.util.List;
+
+// 특정 버전의 전체 좌석 배치도와 미리 직렬화해 둔 JSON 본문
+public record SeatMapSnapshot(
+        long version,
+        List<SeatState> seats,
+        byte[] json
+) {}
@@ -0,0 +1,28 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.enums.StudentStatus;
+
+import java.time.LocalDateTime;
+
+// 좌석 배치도 한 칸 (version은 이 좌석이 마지막으로 바뀐 시점의 배치도 버전)
+public record SeatState(
+        Long id,
+        String name,
+        int seatNum,
+        StudentStatus status,
+        LocalDateTime updatedAt,
+        long version
+) {
+
+    public static SeatState fromEntity(Students student, long version) {
+        return new SeatState(
+                student.getId(),
+                student.getName(),
+                student.getSeatNum(),
+                student.getStatus(),
+                student.getUpdatedAt(),
+                version
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package elice.yeardreamback.dto;
+
+// 학생과 연결된 로그인 계정 (QR 출석 체크에서 본인 확인)
+public record StudentAccount(
+        String username,
+        Long id
+) {}
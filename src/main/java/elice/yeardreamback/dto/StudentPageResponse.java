@@ -0,0 +1,11 @@
+package elice.yeardreamback.dto;
+
+import java.util.List;
+
+// nextAfterSeatNum, nextAfterId는 다음 페이지 요청에 그대로 넘기는 커서 (마지막 페이지면 null)
+public record StudentPageResponse(
+        List<StudentSummary> students,
+        Integer nextAfterSeatNum,
+        Long nextAfterId,
+        Long totalElements
+) {}
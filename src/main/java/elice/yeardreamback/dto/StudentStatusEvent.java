@@ -0,0 +1,26 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.enums.StudentStatus;
+
+import java.time.LocalDateTime;
+
+// 좌석 하나의 출석 상태 변경 (커밋 이후 구독자에게 전달)
+public record StudentStatusEvent(
+        Long id,
+        int seatNum,
+        StudentStatus status,
+        LocalDateTime updatedAt,
+        String recordedBy
+) {
+
+    public static StudentStatusEvent fromEntity(Students student, String recordedBy) {
+        return new StudentStatusEvent(
+                student.getId(),
+                student.getSeatNum(),
+                student.getStatus(),
+                student.getUpdatedAt(),
+                recordedBy
+        );
+    }
+}
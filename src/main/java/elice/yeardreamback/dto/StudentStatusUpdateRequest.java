@@ -0,0 +1,14 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.enums.StudentStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+// id 또는 seatNum 중 하나로 대상 학생을 지정
+@Getter
+@Setter
+public class StudentStatusUpdateRequest {
+    private Long id;
+    private Integer seatNum;
+    private StudentStatus status;
+}
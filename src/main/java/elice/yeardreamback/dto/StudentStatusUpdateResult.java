@@ -0,0 +1,20 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.enums.StudentStatus;
+
+public record StudentStatusUpdateResult(
+        Long id,
+        Integer seatNum,
+        StudentStatus status,
+        boolean updated,
+        String message
+) {
+
+    public static StudentStatusUpdateResult updated(Long id, int seatNum, StudentStatus status) {
+        return new StudentStatusUpdateResult(id, seatNum, status, true, null);
+    }
+
+    public static StudentStatusUpdateResult failed(StudentStatusUpdateRequest request, String message) {
+        return new StudentStatusUpdateResult(request.getId(), request.getSeatNum(), request.getStatus(), false, message);
+    }
+}
@@ -0,0 +1,11 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.enums.StudentStatus;
+
+// 목록 조회용 프로젝션 (엔티티를 만들지 않고 필요한 컬럼만 읽는다)
+public record StudentSummary(
+        Long id,
+        String name,
+        int seatNum,
+        StudentStatus status
+) {}
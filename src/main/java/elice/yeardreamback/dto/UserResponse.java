@@ -0,0 +1,25 @@
+package elice.yeardreamback.dto;
+
+import elice.yeardreamback.entity.User;
+
+// 사용자 프로필 응답 (엔티티의 id, 생성/수정 시각은 내보내지 않는다)
+public record UserResponse(
+        String username,
+        String name,
+        String email,
+        String role,
+        String profileImg,
+        String phone
+) {
+
+    public static UserResponse fromEntity(User user) {
+        return new UserResponse(
+                user.getUsername(),
+                user.getName(),
+                user.getEmail(),
+                user.getRole(),
+                user.getProfileImg(),
+                user.getPhone()
+        );
+    }
+}
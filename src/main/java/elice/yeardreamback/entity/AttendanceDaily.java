@@ -0,0 +1,32 @@
+package elice.yeardreamback.entity;
+
+import elice.yeardreamback.enums.StudentStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 학생별 하루 최종 출석 상태 (attendance_record를 날짜 단위로 집계)
+@Entity
+@Getter
+@Setter
+@Table(name = "attendance_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_daily_student_date", columnNames = {"student_id", "attendance_date"}),
+        indexes = @Index(name = "idx_attendance_daily_date", columnList = "attendance_date"))
+public class AttendanceDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StudentStatus status;
+}
@@ -0,0 +1,40 @@
+package elice.yeardreamback.entity;
+
+import elice.yeardreamback.enums.StudentStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 출석 상태 변경 이력 (추가만 하고 수정하지 않는다)
+@Entity
+@Getter
+@Setter
+@Table(name = "attendance_record", indexes = {
+        @Index(name = "idx_attendance_record_date_student", columnList = "attendance_date, student_id"),
+        @Index(name = "idx_attendance_record_student_date", columnList = "student_id, attendance_date")
+})
+public class AttendanceRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StudentStatus status;
+
+    @Column(name = "recorded_by")
+    private String recordedBy;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
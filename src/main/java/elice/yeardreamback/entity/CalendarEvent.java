@@ -0,0 +1,42 @@
+package elice.yeardreamback.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 캘린더 일정 (기간 조회는 start_at < 끝 and end_at >= 시작)
+@Entity
+@Getter
+@Setter
+@Table(name = "calendar_event", indexes = {
+        @Index(name = "idx_calendar_event_start_end", columnList = "start_at, end_at"),
+        @Index(name = "idx_calendar_event_end", columnList = "end_at")
+})
+public class CalendarEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    private String location;
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(name = "all_day", nullable = false)
+    private boolean allDay;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package elice.yeardreamback.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 챗봇이 답하는 자주 묻는 질문
+@Entity
+@Getter
+@Setter
+@Table(name = "faq")
+public class Faq {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String question;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String answer;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
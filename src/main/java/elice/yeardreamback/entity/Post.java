@@ -0,0 +1,51 @@
+package elice.yeardreamback.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시글 (notice가 true면 공지사항)
+@Entity
+@Getter
+@Setter
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_post_notice_created_at_id", columnList = "notice, created_at, id")
+})
+public class Post {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private String author;
+
+    @Column(name = "author_name")
+    private String authorName;
+
+    @Column(nullable = false)
+    private boolean notice;
+
+    // PostViewCounter가 모아서 더한다
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    // 댓글 추가/삭제 때 같은 트랜잭션에서 함께 바꾼다
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
+@Table(indexes = {
+        @Index(name = "idx_students_seat_num", columnList = "seat_num"),
+        @Index(name = "idx_students_status_seat_num", columnList = "status, seat_num, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_students_username", columnNames = "username"))
 public class Students {
 
     @Id
@@ -19,6 +23,9 @@ public class Students {
 
     private String name;
 
+    // 학생 본인의 로그인 계정 (User.username). QR 출석 체크에서 본인 확인에 쓴다
+    private String username;
+
     @Column(name = "seat_num")
     private int seatNum;
 
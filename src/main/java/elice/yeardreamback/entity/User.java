@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "\"user\"")
+@Table(name = "\"user\"", uniqueConstraints = @UniqueConstraint(name = "uk_user_username", columnNames = "username"))
 public class User {
 
     @Id
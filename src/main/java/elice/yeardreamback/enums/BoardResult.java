@@ -0,0 +1,7 @@
+package elice.yeardreamback.enums;
+
+public enum BoardResult {
+    OK,
+    NOT_FOUND,
+    FORBIDDEN
+}
@@ -0,0 +1,8 @@
+package elice.yeardreamback.enums;
+
+public enum QrCheckInResult {
+    ACCEPTED,
+    INVALID,
+    NOT_STUDENT,
+    BUSY
+}
@@ -0,0 +1,7 @@
+package elice.yeardreamback.enums;
+
+public enum RefreshResult {
+    ROTATED,
+    REUSED,
+    UNKNOWN
+}
@@ -0,0 +1,86 @@
+package elice.yeardreamback.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임을 보관하는 캐시.
+ * 같은 액세스 토큰으로 반복 요청이 들어오면 HMAC 검증을 다시 하지 않는다.
+ * 키는 토큰 문자열의 SHA-256 다이제스트이고, 항목은 늦어도 토큰의 exp 시각에 만료된다.
+ */
+@Component
+public class JWTClaimsCache implements MeterBinder {
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public JWTClaimsCache(JWTUtil jwtUtil,
+                          @Value("${spring.jwt.cache.enabled:true}") boolean enabled,
+                          @Value("${spring.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = enabled ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build() : null;
+    }
+
+    /**
+     * 캐시에 있으면 그대로 돌려주고, 없으면 서명을 검증한 뒤 저장한다.
+     * 검증에 실패하면 JwtException을 그대로 던지고 아무것도 저장하지 않는다.
+     */
+    public JwtClaims get(String token) {
+        if (cache == null) {
+            return jwtUtil.parse(token);
+        }
+        return cache.get(TokenDigest.of(token), digest -> jwtUtil.parse(token));
+    }
+
+    public void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(TokenDigest.of(token));
+        }
+    }
+
+    // hit / miss / eviction 카운터
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    // cache.gets{cache=jwt.claims} 등 Caffeine 지표로 노출
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "jwt.claims");
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remaining = Duration.between(Instant.now(), claims.expiration()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,28 +2,54 @@ package elice.yeardreamback.jwt;
 
 import elice.yeardreamback.dto.CustomOAuth2User;
 import elice.yeardreamback.dto.UserDTO;
+import elice.yeardreamback.service.impl.TokenServiceImpl;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final JWTClaimsCache jwtClaimsCache;
+    private final TokenServiceImpl tokenServiceImpl;
 
-    public JWTFilter(JWTUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    // 결과별 타이머 (다음 필터 처리 시간은 포함하지 않는다)
+    private final Timer noTokenTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+    private final Timer revokedTimer;
+    private final Timer unavailableTimer;
+    private final Timer validTimer;
+
+    public JWTFilter(JWTClaimsCache jwtClaimsCache, TokenServiceImpl tokenServiceImpl, MeterRegistry meterRegistry) {
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.tokenServiceImpl = tokenServiceImpl;
+        this.noTokenTimer = timer(meterRegistry, "no_token");
+        this.expiredTimer = timer(meterRegistry, "expired");
+        this.invalidTimer = timer(meterRegistry, "invalid");
+        this.revokedTimer = timer(meterRegistry, "revoked");
+        this.unavailableTimer = timer(meterRegistry, "revocation_unavailable");
+        this.validTimer = timer(meterRegistry, "valid");
     }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+
         // Authorization 헤더 가져오기
         String authorizationHeader = request.getHeader("Authorization");
         String token = null;
@@ -33,21 +59,61 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         if (token == null) {
+            log.debug("token null");
+            record(noTokenTimer, start);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 서명 검증과 클레임 추출을 한 번에 처리 (검증된 토큰은 캐시에서 가져온다)
+        JwtClaims claims;
+        try {
+            claims = jwtClaimsCache.get(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("token expired");
+            record(expiredTimer, start);
+            filterChain.doFilter(request, response);
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("token invalid: {}", e.getMessage());
+            record(invalidTimer, start);
             filterChain.doFilter(request, response);
-            System.out.println("token null");
             return;
         }
 
-        if (jwtUtil.isExpired(token)) {
-            System.out.println("token expired");
+        // 리프레시 토큰은 같은 키로 서명되지만 수명이 길어서 API 인증에는 받지 않는다
+        if (!claims.isAccessToken()) {
+            log.debug("not an access token: {}", claims.tokenType());
+            record(invalidTimer, start);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 로그아웃으로 폐기된 토큰은 캐시에 남아 있더라도 인증하지 않는다
+        boolean revoked;
+        try {
+            revoked = tokenServiceImpl.isRevoked(claims);
+        } catch (RuntimeException e) {
+            // 폐기 여부를 확인할 수 없으면 인증하지 않고 503 (블룸 필터가 통과시킨 토큰은 여기까지 오지 않는다)
+            log.warn("revocation check unavailable: {}", e.getMessage());
+            record(unavailableTimer, start);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"error\":\"Service Unavailable\"}");
+            return;
+        }
+        if (revoked) {
+            log.debug("token revoked");
+            jwtClaimsCache.invalidate(token);
+            record(revokedTimer, start);
             filterChain.doFilter(request, response);
             return;
         }
 
         // 토큰에서 정보 추출
-        String username = jwtUtil.getUsername(token);
-        String name = jwtUtil.getName(token);
-        String role = jwtUtil.getRole(token);
+        String username = claims.username();
+        String name = claims.name();
+        String role = claims.role();
 
         // CustomOAuth2User 생성
         UserDTO userDTO = UserDTO.builder()
@@ -61,7 +127,19 @@ public class JWTFilter extends OncePerRequestFilter {
         // Authentication 세팅
         Authentication authToken = new UsernamePasswordAuthenticationToken(customOAuth2User, null, customOAuth2User.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
+        record(validTimer, start);
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.filter")
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,72 +1,87 @@
 package elice.yeardreamback.jwt;
 
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import javax.crypto.SecretKey;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    // 서명 방식(HS256 / ES256 / EdDSA)과 키는 키 링이 결정
+    private final SigningKeyRing keyRing;
 
-    public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
-        secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    // JwtParser는 불변 객체라 스레드 간에 공유해서 재사용
+    private final JwtParser jwtParser;
+
+    public JWTUtil(SigningKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.jwtParser = keyRing.newParser();
+    }
+
+    /**
+     * 서명을 한 번만 검증하고 필요한 클레임을 모두 꺼내온다.
+     * 서명이 잘못되었거나 만료된 토큰이면 JwtException을 던진다.
+     */
+    public JwtClaims parse(String token) {
+        return JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parse(token).username();
     }
 
     public String getName(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("name", String.class);
+        return parse(token).name();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parse(token).role();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        try {
+            return parse(token).isExpired();
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     public String createJwt(String tokenType, String username, String role, String name, Long expiredMs) {
-        return Jwts.builder()
+        return keyRing.signWith(Jwts.builder())
+                .id(UUID.randomUUID().toString())
                 .claim("tokenType", tokenType)
                 .claim("username", username)
                 .claim("name", name)
                 .claim("role", role)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
                 .compact();
     }
 
-    public String createRefreshJwt(String tokenType, String username, String role, String name, Long expiredMs) {
-        return Jwts.builder()
-                .claim("tokenType", tokenType)
+    /**
+     * 리프레시 토큰 발급. 회전 시 같은 계열(familyId)을 이어가고, tokenId(jti)는 호출자가 정한다.
+     */
+    public String createRefreshJwt(String tokenId, String familyId, String username, String role, String name, Long expiredMs) {
+        return keyRing.signWith(Jwts.builder())
+                .id(tokenId)
+                .claim("tokenType", "refresh")
+                .claim("familyId", familyId)
                 .claim("username", username)
                 .claim("role", role)
                 .claim("name", name)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
                 .compact();
     }
 
     public Boolean isRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return "refresh".equals(claims.get("tokenType", String.class));
-        } catch (Exception e) {
+            return parse(token).isRefreshToken();
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
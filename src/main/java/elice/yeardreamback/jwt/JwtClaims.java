@@ -0,0 +1,48 @@
+package elice.yeardreamback.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰에서 한 번만 추출한 클레임 값
+ */
+public record JwtClaims(
+        String id,
+        String username,
+        String name,
+        String role,
+        String tokenType,
+        String familyId,
+        Instant expiration
+) {
+
+    // exp가 없는 토큰은 만료되지 않으므로 받지 않는다 (JWTFilter에서 invalid로 처리)
+    public static JwtClaims from(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("JWT has no exp claim");
+        }
+        return new JwtClaims(
+                claims.getId(),
+                claims.get("username", String.class),
+                claims.get("name", String.class),
+                claims.get("role", String.class),
+                claims.get("tokenType", String.class),
+                claims.get("familyId", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+}
@@ -0,0 +1,157 @@
+package elice.yeardreamback.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 모음.
+ * HS256은 기존처럼 spring.jwt.secret 하나로 서명하고 검증한다.
+ * ES256/EdDSA는 설정으로 받은 키 쌍으로 서명하고, kid별 검증용 공개키를 들고 있다.
+ * 모든 인스턴스가 같은 키를 써야 하므로 키 쌍과 kid가 없으면 기동하지 않는다 (인스턴스마다 키를 만들면 다른 인스턴스가 발급한 토큰을 검증하지 못한다).
+ * 키 교체는 설정으로 한다: 새 키 쌍과 kid를 배포하면서 이전 "kid=공개키"를 previous-public-keys에 남겨 두고,
+ * 이전 키로 발급된 토큰이 모두 만료된 뒤 (리프레시 토큰 수명) 목록에서 뺀다.
+ * 공개키는 JWKS로 공개해서 다른 서비스가 비밀값 없이 직접 검증할 수 있다.
+ */
+@Component
+public class SigningKeyRing {
+
+    public static final String HS256 = "HS256";
+    public static final String ES256 = "ES256";
+    public static final String EDDSA = "EdDSA";
+
+    private final String algorithm;
+    private final SecretKey secretKey;
+    // 설정에서 한 번 읽고 바뀌지 않는다
+    private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    private final String activeKeyId;
+    private final PrivateKey activePrivateKey;
+
+    public SigningKeyRing(@Value("${spring.jwt.secret}") String secret,
+                          @Value("${spring.jwt.signing.algorithm:HS256}") String algorithm,
+                          @Value("${spring.jwt.signing.key-id:}") String keyId,
+                          @Value("${spring.jwt.signing.private-key:}") String privateKey,
+                          @Value("${spring.jwt.signing.public-key:}") String publicKey,
+                          @Value("${spring.jwt.signing.previous-public-keys:}") String previousPublicKeys) {
+        if (!List.of(HS256, ES256, EDDSA).contains(algorithm)) {
+            throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        if (!isAsymmetric()) {
+            this.activeKeyId = null;
+            this.activePrivateKey = null;
+            return;
+        }
+        if (keyId.isBlank() || privateKey.isBlank() || publicKey.isBlank()) {
+            throw new IllegalStateException("spring.jwt.signing.key-id, private-key and public-key are required for " + algorithm
+                    + " so that every instance signs with the same key");
+        }
+        KeyFactory keyFactory = keyFactory();
+        this.activeKeyId = keyId;
+        this.activePrivateKey = decodePrivateKey(keyFactory, privateKey);
+        verificationKeys.put(keyId, decodePublicKey(keyFactory, publicKey));
+        // "kid=base64 공개키"를 쉼표로 구분
+        for (String entry : previousPublicKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("spring.jwt.signing.previous-public-keys entries must be kid=publicKey");
+            }
+            verificationKeys.putIfAbsent(entry.substring(0, separator).trim(), decodePublicKey(keyFactory, entry.substring(separator + 1).trim()));
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return !HS256.equals(algorithm);
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    // 현재 키로 서명 (비대칭이면 kid 헤더 포함)
+    public JwtBuilder signWith(JwtBuilder builder) {
+        if (!isAsymmetric()) {
+            return builder.signWith(secretKey);
+        }
+        return builder.header().keyId(activeKeyId).and()
+                .signWith(activePrivateKey, signatureAlgorithm());
+    }
+
+    // 스레드 간에 공유하는 파서 (비대칭이면 kid로 공개키를 찾는다)
+    public JwtParser newParser() {
+        if (!isAsymmetric()) {
+            return Jwts.parser().verifyWith(secretKey).build();
+        }
+        return Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return header.getKeyId() != null ? verificationKeys.get(header.getKeyId()) : null;
+            }
+        }).build();
+    }
+
+    // JWKS 형식의 공개키 목록
+    public Map<String, Object> jwks() {
+        List<Map<String, ?>> keys = verificationKeys.entrySet().stream()
+                .<Map<String, ?>>map(entry -> Jwks.builder().key(entry.getValue()).id(entry.getKey()).build())
+                .toList();
+        return Map.of("keys", keys);
+    }
+
+    private SignatureAlgorithm signatureAlgorithm() {
+        return ES256.equals(algorithm) ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA;
+    }
+
+    private KeyFactory keyFactory() {
+        try {
+            return KeyFactory.getInstance(ES256.equals(algorithm) ? "EC" : "Ed25519");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " keys are not supported", e);
+        }
+    }
+
+    // PKCS#8 개인키 (base64 DER)
+    private PrivateKey decodePrivateKey(KeyFactory keyFactory, String privateKey) {
+        try {
+            return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateKey)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " private key", e);
+        }
+    }
+
+    // X.509 공개키 (base64 DER)
+    private PublicKey decodePublicKey(KeyFactory keyFactory, String publicKey) {
+        try {
+            return keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicKey)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " public key", e);
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package elice.yeardreamback.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 문자열 전체 대신 사용할 고정 길이 다이제스트
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    // SHA-256 결과를 base64url로 인코딩 (패딩 없이 43자)
+    public static String of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package elice.yeardreamback.oauth2;
 
 import elice.yeardreamback.dto.CustomOAuth2User;
 import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.service.impl.RefreshTokenServiceImpl;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,9 +20,11 @@ import java.util.Iterator;
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
+    private final RefreshTokenServiceImpl refreshTokenServiceImpl;
 
-    public CustomSuccessHandler(JWTUtil jwtUtil) {
+    public CustomSuccessHandler(JWTUtil jwtUtil, RefreshTokenServiceImpl refreshTokenServiceImpl) {
         this.jwtUtil = jwtUtil;
+        this.refreshTokenServiceImpl = refreshTokenServiceImpl;
     }
 
     @Override
@@ -39,10 +42,11 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String role = auth.getAuthority();
 
         long accessExpiredMs = 30 * 1000L;
-        long refreshExpiredMs = 7 * 24 * 60 * 60 * 1000L;
+        long refreshExpiredMs = refreshTokenServiceImpl.getRefreshExpiredMs();
 
         String accessToken = jwtUtil.createJwt("access", username, role, name, accessExpiredMs);
-        String refreshToken = jwtUtil.createJwt("refresh", username, role, name, refreshExpiredMs);
+        // 로그인마다 새 리프레시 토큰 계열 시작
+        String refreshToken = refreshTokenServiceImpl.issue(username, role, name);
 
         Cookie refreshCookie = new Cookie("refreshToken", refreshToken);
         refreshCookie.setHttpOnly(true);
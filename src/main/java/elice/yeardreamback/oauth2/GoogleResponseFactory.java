@@ -0,0 +1,21 @@
+package elice.yeardreamback.oauth2;
+
+import elice.yeardreamback.dto.GoogleResponse;
+import elice.yeardreamback.dto.OAuth2Response;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class GoogleResponseFactory implements OAuth2ResponseFactory {
+
+    @Override
+    public String registrationId() {
+        return "google";
+    }
+
+    @Override
+    public OAuth2Response create(Map<String, Object> attributes) {
+        return GoogleResponse.from(attributes);
+    }
+}
@@ -0,0 +1,21 @@
+package elice.yeardreamback.oauth2;
+
+import elice.yeardreamback.dto.NaverResponse;
+import elice.yeardreamback.dto.OAuth2Response;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class NaverResponseFactory implements OAuth2ResponseFactory {
+
+    @Override
+    public String registrationId() {
+        return "naver";
+    }
+
+    @Override
+    public OAuth2Response create(Map<String, Object> attributes) {
+        return NaverResponse.from(attributes);
+    }
+}
@@ -0,0 +1,17 @@
+package elice.yeardreamback.oauth2;
+
+import elice.yeardreamback.dto.OAuth2Response;
+
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자별 사용자 정보 변환기.
+ * 새 제공자는 이 인터페이스를 구현한 빈을 추가하면 OAuth2ResponseRegistry에 자동으로 등록된다.
+ */
+public interface OAuth2ResponseFactory {
+
+    // spring.security.oauth2.client.registration.<id> 의 id
+    String registrationId();
+
+    OAuth2Response create(Map<String, Object> attributes);
+}
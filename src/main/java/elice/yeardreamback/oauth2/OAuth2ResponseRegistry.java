@@ -0,0 +1,28 @@
+package elice.yeardreamback.oauth2;
+
+import elice.yeardreamback.dto.OAuth2Response;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// registrationId별 OAuth2ResponseFactory 조회
+@Component
+public class OAuth2ResponseRegistry {
+
+    private final Map<String, OAuth2ResponseFactory> factories;
+
+    public OAuth2ResponseRegistry(List<OAuth2ResponseFactory> factories) {
+        this.factories = factories.stream()
+                .collect(Collectors.toUnmodifiableMap(OAuth2ResponseFactory::registrationId, Function.identity()));
+    }
+
+    // 등록되지 않은 제공자면 빈 값
+    public Optional<OAuth2Response> create(String registrationId, Map<String, Object> attributes) {
+        OAuth2ResponseFactory factory = factories.get(registrationId);
+        return factory != null ? Optional.of(factory.create(attributes)) : Optional.empty();
+    }
+}
@@ -0,0 +1,39 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.dto.AttendanceSummaryResponse;
+import elice.yeardreamback.entity.AttendanceDaily;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceDailyRepository extends JpaRepository<AttendanceDaily, Long> {
+
+    List<AttendanceDaily> findByStudentIdAndAttendanceDateBetweenOrderByAttendanceDateAsc(Long studentId, LocalDate from, LocalDate to);
+
+    List<AttendanceDaily> findByAttendanceDate(LocalDate attendanceDate);
+
+    // 기간 내 학생별 출석/지각/결석 일수
+    @Query("""
+            select new elice.yeardreamback.dto.AttendanceSummaryResponse(
+                d.studentId,
+                sum(case when d.status = elice.yeardreamback.enums.StudentStatus.PRESENT then 1 else 0 end),
+                sum(case when d.status = elice.yeardreamback.enums.StudentStatus.LATE then 1 else 0 end),
+                sum(case when d.status = elice.yeardreamback.enums.StudentStatus.ABSENT then 1 else 0 end))
+            from AttendanceDaily d
+            where d.attendanceDate between :from and :to
+            group by d.studentId
+            order by d.studentId
+            """)
+    List<AttendanceSummaryResponse> summarize(LocalDate from, LocalDate to);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AttendanceDaily d where d.attendanceDate = :attendanceDate")
+    void deleteByAttendanceDate(LocalDate attendanceDate);
+}
@@ -0,0 +1,16 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.entity.AttendanceRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceRecordRepository extends JpaRepository<AttendanceRecord, Long> {
+
+    List<AttendanceRecord> findByAttendanceDateOrderByStudentIdAscRecordedAtAsc(LocalDate attendanceDate);
+
+    List<AttendanceRecord> findByStudentIdAndAttendanceDateBetweenOrderByAttendanceDateAscRecordedAtAsc(Long studentId, LocalDate from, LocalDate to);
+}
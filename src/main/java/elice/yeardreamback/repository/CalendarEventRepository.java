@@ -0,0 +1,21 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.entity.CalendarEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Long> {
+
+    // [from, to) 기간과 겹치는 일정
+    @Query("""
+            select e from CalendarEvent e
+            where e.startAt < :to and e.endAt >= :from
+            order by e.startAt, e.id
+            """)
+    List<CalendarEvent> findOverlapping(LocalDateTime from, LocalDateTime to);
+}
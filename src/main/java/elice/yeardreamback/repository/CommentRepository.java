@@ -0,0 +1,28 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // (post_id, created_at, id) 인덱스를 따라 작성 순서대로
+    @Query("""
+            select c from Comment c
+            where c.postId = :postId
+              and (c.createdAt > :afterCreatedAt or (c.createdAt = :afterCreatedAt and c.id > :afterId))
+            order by c.createdAt, c.id
+            """)
+    List<Comment> findByPostIdAfter(Long postId, LocalDateTime afterCreatedAt, long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Comment c where c.postId = :postId")
+    int deleteByPostId(Long postId);
+}
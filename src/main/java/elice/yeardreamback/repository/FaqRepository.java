@@ -0,0 +1,9 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.entity.Faq;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FaqRepository extends JpaRepository<Faq, Long> {
+}
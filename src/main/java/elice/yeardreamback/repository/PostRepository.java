@@ -0,0 +1,30 @@
+package elice.yeardreamback.repository;
+
+import elice.yeardreamback.dto.PostSummary;
+import elice.yeardreamback.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // (created_at, id) 기준 키셋 페이지네이션, 최신 글부터 (본문은 읽지 않는다)
+    @Query("""
+            select new elice.yeardreamback.dto.PostSummary(p.id, p.title, p.authorName, p.notice, p.viewCount, p.commentCount, p.createdAt)
+            from Post p
+            where (:notice is null or p.notice = :notice)
+              and (p.createdAt < :beforeCreatedAt or (p.createdAt = :beforeCreatedAt and p.id < :beforeId))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostSummary> findSummariesBefore(Boolean notice, LocalDateTime beforeCreatedAt, long beforeId, Pageable pageable);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int addCommentCount(Long id, int delta);
+}
@@ -1,13 +0,0 @@
-package elice.yeardreamback.repository;
-
-import elice.yeardreamback.entity.RefreshToken;
-import jakarta.transaction.Transactional;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface RefreshRepository extends JpaRepository<RefreshToken, Integer> {
-
-    Boolean existsByRefresh(String refresh);
-
-    @Transactional
-    void deleteByRefresh(String refresh);
-}
\ No newline at end of file
@@ -1,15 +1,45 @@
 package elice.yeardreamback.repository;
 
-import elice.yeardreamback.dto.StudentResponse;
+import elice.yeardreamback.dto.StudentAccount;
+import elice.yeardreamback.dto.StudentSummary;
 import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.enums.StudentStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Students, Long> {
 
     Students findByName(String name);
-    List<Students> findAll();
+
+    // 로그인 계정이 연결된 학생만
+    @Query("select new elice.yeardreamback.dto.StudentAccount(s.username, s.id) from Students s where s.username is not null")
+    List<StudentAccount> findAccounts();
+
+    List<Students> findBySeatNumIn(Collection<Integer> seatNums);
+
+    // (좌석 번호, id) 기준 키셋 페이지네이션 (좌석 번호가 같은 학생도 id로 이어서 읽는다)
+    @Query("""
+            select new elice.yeardreamback.dto.StudentSummary(s.id, s.name, s.seatNum, s.status)
+            from Students s
+            where (s.seatNum > :afterSeatNum or (s.seatNum = :afterSeatNum and s.id > :afterId))
+              and (:status is null or s.status = :status)
+            order by s.seatNum, s.id
+            """)
+    List<StudentSummary> findSummariesAfter(int afterSeatNum, long afterId, StudentStatus status, Pageable pageable);
+
+    @Query(value = """
+            select new elice.yeardreamback.dto.StudentSummary(s.id, s.name, s.seatNum, s.status)
+            from Students s
+            where (:status is null or s.status = :status)
+            order by s.seatNum, s.id
+            """,
+            countQuery = "select count(s) from Students s where (:status is null or s.status = :status)")
+    Page<StudentSummary> findSummaries(StudentStatus status, Pageable pageable);
 }
@@ -1,10 +1,28 @@
 package elice.yeardreamback.repository;
 
 import elice.yeardreamback.entity.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.name = :name, u.email = :email, u.updatedAt = local datetime where u.username = :username")
+    int updateProfile(String username, String name, String email);
+
+    // username 유니크 인덱스 기준 단일 문장 upsert (MySQL)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into `user` (username, name, email, role, created_at, updated_at)
+            values (:username, :name, :email, :role, now(), now())
+            on duplicate key update name = values(name), email = values(email), updated_at = now()
+            """, nativeQuery = true)
+    int upsert(String username, String name, String email, String role);
 }
@@ -0,0 +1,24 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.AttendanceDailyResponse;
+import elice.yeardreamback.dto.AttendanceRecordResponse;
+import elice.yeardreamback.dto.AttendanceSummaryResponse;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+public interface AttendanceHistoryService {
+
+    List<AttendanceRecordResponse> findByDate(LocalDate date);
+
+    List<AttendanceDailyResponse> findByStudent(Long studentId, LocalDate from, LocalDate to);
+
+    boolean isOwnRecord(Long studentId, String username);
+
+    List<AttendanceSummaryResponse> summarizeMonth(YearMonth month);
+
+    void rollup(LocalDate date);
+}
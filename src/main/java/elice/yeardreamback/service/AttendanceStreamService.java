@@ -0,0 +1,10 @@
+package elice.yeardreamback.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public interface AttendanceStreamService {
+
+    SseEmitter subscribe();
+}
@@ -0,0 +1,33 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.CommentPageResponse;
+import elice.yeardreamback.dto.CommentRequest;
+import elice.yeardreamback.dto.CommentResponse;
+import elice.yeardreamback.dto.PostPageResponse;
+import elice.yeardreamback.dto.PostRequest;
+import elice.yeardreamback.dto.PostResponse;
+import elice.yeardreamback.enums.BoardResult;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+public interface BoardService {
+
+    PostPageResponse findPosts(Boolean notice, LocalDateTime beforeCreatedAt, Long beforeId, int size);
+
+    Optional<PostResponse> viewPost(Long id);
+
+    PostResponse createPost(PostRequest request, String username, String name);
+
+    BoardResult updatePost(Long id, PostRequest request, String username, boolean staff);
+
+    BoardResult deletePost(Long id, String username, boolean staff);
+
+    CommentPageResponse findComments(Long postId, LocalDateTime afterCreatedAt, Long afterId, int size);
+
+    Optional<CommentResponse> addComment(Long postId, CommentRequest request, String username, String name);
+
+    BoardResult deleteComment(Long postId, Long commentId, String username, boolean staff);
+}
@@ -0,0 +1,21 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.CachedJson;
+import elice.yeardreamback.dto.CalendarEventRequest;
+import elice.yeardreamback.dto.CalendarEventResponse;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Service
+public interface CalendarService {
+
+    CachedJson findEvents(LocalDate from, LocalDate to);
+
+    CalendarEventResponse create(CalendarEventRequest request);
+
+    Optional<CalendarEventResponse> update(Long id, CalendarEventRequest request);
+
+    boolean delete(Long id);
+}
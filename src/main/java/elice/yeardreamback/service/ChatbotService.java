@@ -0,0 +1,12 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.ChatbotAnswer;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface ChatbotService {
+
+    List<ChatbotAnswer> ask(String question, int limit);
+}
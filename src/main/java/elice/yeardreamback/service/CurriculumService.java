@@ -0,0 +1,12 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.CachedJson;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface CurriculumService {
+
+    CachedJson curriculum();
+
+    void reload();
+}
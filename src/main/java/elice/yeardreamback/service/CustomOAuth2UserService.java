@@ -1,63 +1,75 @@
 package elice.yeardreamback.service;
 
 import elice.yeardreamback.dto.*;
-import elice.yeardreamback.entity.User;
+import elice.yeardreamback.enums.UserRoleType;
+import elice.yeardreamback.oauth2.OAuth2ResponseRegistry;
 import elice.yeardreamback.repository.UserRepository;
+import elice.yeardreamback.service.impl.UserProfileCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final OAuth2ResponseRegistry oAuth2ResponseRegistry;
 
-    public CustomOAuth2UserService(UserRepository userRepository) {
+    public CustomOAuth2UserService(UserRepository userRepository, UserProfileCache userProfileCache, OAuth2ResponseRegistry oAuth2ResponseRegistry) {
         this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.oAuth2ResponseRegistry = oAuth2ResponseRegistry;
     }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
         OAuth2User oAuth2User = super.loadUser(userRequest);
-        System.out.println(oAuth2User);
+        log.debug("oauth2 user loaded: {}", oAuth2User.getName());
 
         String registrationId = userRequest.getClientRegistration().getRegistrationId();
-        OAuth2Response oAuth2Response;
-
-        if (registrationId.equals("naver")) {
-            oAuth2Response = new NaverResponse(oAuth2User.getAttributes());
-        } else if (registrationId.equals("google")) {
-            oAuth2Response = new GoogleResponse(oAuth2User.getAttributes());
-        } else if (registrationId.equals("kakao")) {
-            oAuth2Response = new KakaoResponse(oAuth2User.getAttributes());
-        } else {
+        OAuth2Response oAuth2Response = oAuth2ResponseRegistry.create(registrationId, oAuth2User.getAttributes())
+                .orElse(null);
+        if (oAuth2Response == null) {
             return null;
         }
 
         String username = oAuth2Response.getProvider() + " " + oAuth2Response.getProviderId();
 
-        User user = userRepository.findByUsername(username)
-                .map(existingUser -> {
-                    existingUser.setName(oAuth2Response.getName());
-                    existingUser.setEmail(oAuth2Response.getEmail());
-                    return userRepository.save(existingUser);
-                })
-                .orElseGet(() -> {
-                    User newUser = new User();
-                    newUser.setName(oAuth2Response.getName());
-                    newUser.setUsername(username);
-                    newUser.setEmail(oAuth2Response.getEmail());
-                    newUser.setRole("USER");
-                    return userRepository.save(newUser);
-                });
+        String name = oAuth2Response.getName();
+        String email = oAuth2Response.getEmail();
+
+        // 기존 사용자는 이름/이메일이 바뀐 경우에만 UPDATE, 신규 사용자는 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리
+        Optional<UserResponse> existing = userProfileCache.get(username, userRepository::findByUsername);
+        String role;
+        if (existing.isPresent()) {
+            UserResponse user = existing.get();
+            role = user.role();
+            if (!Objects.equals(user.name(), name) || !Objects.equals(user.email(), email)) {
+                userRepository.updateProfile(username, name, email);
+                userProfileCache.invalidate(username);
+            }
+        } else {
+            userRepository.upsert(username, name, email, UserRoleType.USER.name());
+            userProfileCache.invalidate(username);
+            // 동시에 가입한 경우 이미 있던 역할을 그대로 쓰기 위해 다시 읽는다
+            role = userProfileCache.get(username, userRepository::findByUsername)
+                    .map(UserResponse::role)
+                    .orElse(UserRoleType.USER.name());
+        }
 
         UserDTO userDTO = UserDTO.builder()
-                .username(user.getUsername())
-                .name(user.getName())
-                .role(user.getRole())
+                .username(username)
+                .name(name)
+                .role(role)
                 .build();
 
         return new CustomOAuth2User(userDTO);
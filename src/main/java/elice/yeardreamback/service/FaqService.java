@@ -0,0 +1,20 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.FaqRequest;
+import elice.yeardreamback.dto.FaqResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public interface FaqService {
+
+    List<FaqResponse> findAll();
+
+    FaqResponse create(FaqRequest request);
+
+    Optional<FaqResponse> update(Long id, FaqRequest request);
+
+    boolean delete(Long id);
+}
@@ -0,0 +1,13 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.QrCodeResponse;
+import elice.yeardreamback.enums.QrCheckInResult;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface QrCheckInService {
+
+    QrCodeResponse issue();
+
+    QrCheckInResult checkIn(String username, String payload);
+}
@@ -0,0 +1,19 @@
+package elice.yeardreamback.service;
+
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+public interface SeatMapService {
+
+    SeatMapSnapshot snapshot();
+
+    // sinceVersion 이후 바뀐 좌석 ({version, full, seats}, full이면 전체 배치도)을 중간 목록 없이 바로 출력 스트림에 쓴다
+    void writeChangesSince(long sinceVersion, OutputStream out) throws IOException;
+
+    // 변경을 놓쳤을 수 있을 때 다음 조회에서 DB로부터 다시 적재하게 한다
+    void invalidate();
+}
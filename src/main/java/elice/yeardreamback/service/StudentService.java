@@ -1,6 +1,10 @@
 package elice.yeardreamback.service;
 
-import elice.yeardreamback.dto.StudentResponse;
+import elice.yeardreamback.dto.StudentAccount;
+import elice.yeardreamback.dto.StudentPageResponse;
+import elice.yeardreamback.dto.StudentStatusUpdateRequest;
+import elice.yeardreamback.dto.StudentStatusUpdateResult;
+import elice.yeardreamback.enums.StudentStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -8,5 +12,10 @@ import java.util.List;
 @Service
 public interface StudentService {
 
-    List<StudentResponse> findAll();
+    StudentPageResponse findPage(Integer page, int size, Integer afterSeatNum, Long afterId, StudentStatus status);
+
+    List<StudentStatusUpdateResult> updateStatuses(List<StudentStatusUpdateRequest> requests, String recordedBy);
+
+    // 로그인 계정이 연결된 모든 학생
+    List<StudentAccount> findAccounts();
 }
@@ -1,5 +1,6 @@
 package elice.yeardreamback.service;
 
+import elice.yeardreamback.dto.UserResponse;
 import elice.yeardreamback.entity.User;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
@@ -9,7 +10,7 @@ import java.util.Optional;
 @Service
 public interface UserService {
 
-    Optional<User> findUserByUsername(String username);
+    Optional<UserResponse> findUserByUsername(String username);
 
     @Transactional
     User updateUser(String username, String newName, String newRole, String newEmail, String newProfileImageUrl, String newPhone);
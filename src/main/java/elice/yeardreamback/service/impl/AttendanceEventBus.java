@@ -0,0 +1,251 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.service.SeatMapService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인스턴스 간 출석 변경 전달 (Redis Stream).
+ * 이 인스턴스에서 커밋된 변경은 트랜잭션마다 모아 두었다가 커밋 후 바이너리로 인코딩해 한 번의 파이프라인으로 XADD 하고,
+ * 인스턴스마다 자기 이름의 컨슈머 그룹으로 스트림을 읽어 다른 인스턴스의 변경을 로컬 이벤트로 다시 발행한다.
+ * 그룹 이름은 attendance.bus.node-id이므로 인스턴스마다 고정된 값을 줘야 한다 (실행마다 새 이름이면 강제 종료된 인스턴스의 그룹이 스트림에 계속 쌓인다).
+ * 다시 발행한 이벤트는 트랜잭션 밖이므로 fallbackExecution을 켠 리스너(배치도, SSE)만 받고,
+ * 이력 저장과 이 클래스의 발행 리스너는 받지 않는다 (원래 인스턴스가 이미 처리).
+ * 스트림을 읽지 못한 동안은 변경을 놓쳤을 수 있으므로 복구되면 배치도를 DB에서 다시 적재한다.
+ * 다시 연결하면 먼저 ACK하지 못한 자기 그룹의 대기 목록(PEL)부터 다시 읽어서 처리한 뒤 새 항목을 읽는다.
+ */
+@Slf4j
+@Component
+public class AttendanceEventBus {
+
+    private static final byte[] NODE_FIELD = "n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_FIELD = "e".getBytes(StandardCharsets.UTF_8);
+    // 그룹에 전달됐지만 ACK하지 않은 항목부터 읽는 오프셋
+    private static final ReadOffset PENDING = ReadOffset.from("0-0");
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatMapService seatMapService;
+    private final boolean enabled;
+    private final byte[] streamKey;
+    private final long maxLength;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final String nodeId;
+    private final byte[] nodeIdBytes;
+
+    private volatile boolean running;
+    private Thread reader;
+
+    public AttendanceEventBus(LettuceConnectionFactory connectionFactory,
+                              ApplicationEventPublisher eventPublisher,
+                              SeatMapService seatMapService,
+                              @Value("${attendance.bus.enabled:false}") boolean enabled,
+                              @Value("${attendance.bus.stream-key:attendance:events}") String streamKey,
+                              @Value("${attendance.bus.max-length:10000}") long maxLength,
+                              @Value("${attendance.bus.batch-size:100}") int batchSize,
+                              @Value("${attendance.bus.poll-timeout-ms:1000}") long pollTimeoutMs,
+                              @Value("${attendance.bus.node-id:}") String nodeId) {
+        this.connectionFactory = connectionFactory;
+        this.eventPublisher = eventPublisher;
+        this.seatMapService = seatMapService;
+        this.enabled = enabled;
+        this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        this.maxLength = maxLength;
+        this.batchSize = batchSize;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+        // 재시작해도 같은 그룹을 다시 쓰도록 고정된 이름만 받는다
+        if (enabled && nodeId.isBlank()) {
+            throw new IllegalStateException("attendance.bus.node-id is required when attendance.bus.enabled is true"
+                    + " (use a stable per-instance name such as the pod name)");
+        }
+        this.nodeId = nodeId;
+        this.nodeIdBytes = this.nodeId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        reader = new Thread(this::readLoop, "attendance-bus");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * 이 인스턴스의 트랜잭션 안에서 나온 변경만 트랜잭션별 목록에 모으고, 커밋되면 한 번에 스트림에 올린다.
+     * 트랜잭션 밖의 이벤트 (다른 인스턴스에서 받아 다시 발행한 것)는 올리지 않는다.
+     */
+    @EventListener
+    public void onStatusChanged(StudentStatusEvent event) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<StudentStatusEvent> pending = (List<StudentStatusEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<StudentStatusEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AttendanceEventBus.this);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    // 한 트랜잭션의 변경을 파이프라인으로 묶어 한 번의 왕복으로 XADD
+    void publish(List<StudentStatusEvent> events) {
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                for (StudentStatusEvent event : events) {
+                    Map<byte[], byte[]> fields = Map.of(NODE_FIELD, nodeIdBytes, EVENT_FIELD, AttendanceEventCodec.encode(event));
+                    connection.streamCommands().xAdd(StreamRecords.newRecord().in(streamKey).ofMap(fields), options);
+                }
+            } finally {
+                connection.closePipeline();
+            }
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 다음 배치도 재적재 때 DB에서 이 변경을 보게 된다
+            log.warn("attendance event publish failed for {} events: {}", events.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        reader.interrupt();
+        try {
+            reader.join(pollTimeout.toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 이 인스턴스 전용 그룹이므로 함께 지운다
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.streamCommands().xGroupDestroy(streamKey, nodeId);
+        } catch (DataAccessException e) {
+            log.debug("attendance bus group cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    private void readLoop() {
+        Consumer consumer = Consumer.from(nodeId, nodeId);
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize).block(pollTimeout);
+        StreamOffset<byte[]> pendingOffset = StreamOffset.create(streamKey, PENDING);
+        StreamOffset<byte[]> newOffset = StreamOffset.create(streamKey, ReadOffset.lastConsumed());
+
+        while (running) {
+            // 블로킹 읽기는 전용 연결을 쓰므로 실패할 때까지 같은 연결을 유지한다
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                joinGroup(connection);
+                // 이전 연결에서 처리하거나 ACK하지 못한 항목을 먼저 다시 받는다 (비면 새 항목으로 넘어간다)
+                boolean redelivering = true;
+                while (running) {
+                    List<ByteRecord> records = connection.streamCommands().xReadGroup(consumer, options,
+                            redelivering ? pendingOffset : newOffset);
+                    if (records == null || records.isEmpty()) {
+                        redelivering = false;
+                        continue;
+                    }
+                    RecordId[] ids = new RecordId[records.size()];
+                    for (int i = 0; i < records.size(); i++) {
+                        ByteRecord record = records.get(i);
+                        apply(record);
+                        ids[i] = record.getId();
+                    }
+                    connection.streamCommands().xAck(streamKey, nodeId, ids);
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("attendance bus read failed, retrying: {}", e.getMessage());
+                sleep(pollTimeout);
+            }
+        }
+    }
+
+    /**
+     * 그룹을 현재 끝 위치에 만들고 배치도를 다시 적재하게 한다.
+     * 그룹이 이미 있으면 (BUSYGROUP) 그대로 쓰지만, 읽지 못한 사이 스트림이 잘렸을 수 있으니 재적재는 똑같이 한다.
+     */
+    private void joinGroup(RedisConnection connection) {
+        try {
+            connection.streamCommands().xGroupCreate(streamKey, nodeId, ReadOffset.latest(), true);
+        } catch (DataAccessException e) {
+            log.debug("attendance bus group not created: {}", e.getMessage());
+        }
+        seatMapService.invalidate();
+    }
+
+    // 다른 인스턴스가 올린 변경만 로컬 이벤트로 다시 발행
+    void apply(ByteRecord record) {
+        byte[] origin = null;
+        byte[] payload = null;
+        for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+            if (Arrays.equals(field.getKey(), NODE_FIELD)) {
+                origin = field.getValue();
+            } else if (Arrays.equals(field.getKey(), EVENT_FIELD)) {
+                payload = field.getValue();
+            }
+        }
+        if (payload == null || Arrays.equals(origin, nodeIdBytes)) {
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(AttendanceEventCodec.decode(payload));
+        } catch (RuntimeException e) {
+            log.warn("attendance event {} skipped: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
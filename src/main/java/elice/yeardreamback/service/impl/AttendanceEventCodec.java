@@ -0,0 +1,99 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.enums.StudentStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 출석 변경 이벤트의 바이너리 형식 (버전 2, 빅엔디언).
+ * [버전 1B][id 8B][seatNum 4B][status 1B][updatedAt 초 8B][updatedAt 나노 4B][recordedBy 길이 2B][recordedBy UTF-8]
+ * status는 enum 순서가 아니라 고정 코드(PRESENT 1, ABSENT 2, LATE 3)로 적는다. 상수를 추가하거나 순서를 바꿔도
+ * 배포 중에 섞여 도는 이전 버전 인스턴스와 뜻이 어긋나지 않도록, 새 상수에는 새 코드를 붙이고 기존 코드는 재사용하지 않는다.
+ * null은 status 0, updatedAt 초 Long.MIN_VALUE, recordedBy 길이 -1로 나타낸다.
+ */
+final class AttendanceEventCodec {
+
+    private static final byte VERSION = 2;
+    private static final int FIXED_LENGTH = 1 + 8 + 4 + 1 + 8 + 4 + 2;
+
+    private AttendanceEventCodec() {
+    }
+
+    static byte[] encode(StudentStatusEvent event) {
+        byte[] recordedBy = event.recordedBy() != null ? event.recordedBy().getBytes(StandardCharsets.UTF_8) : null;
+        if (recordedBy != null && recordedBy.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("recordedBy is too long: " + recordedBy.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_LENGTH + (recordedBy != null ? recordedBy.length : 0));
+        buffer.put(VERSION);
+        buffer.putLong(event.id());
+        buffer.putInt(event.seatNum());
+        buffer.put(statusCode(event.status()));
+        if (event.updatedAt() != null) {
+            buffer.putLong(event.updatedAt().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(event.updatedAt().getNano());
+        } else {
+            buffer.putLong(Long.MIN_VALUE);
+            buffer.putInt(0);
+        }
+        if (recordedBy != null) {
+            buffer.putShort((short) recordedBy.length);
+            buffer.put(recordedBy);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        return buffer.array();
+    }
+
+    static StudentStatusEvent decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported attendance event version: " + version);
+        }
+        long id = buffer.getLong();
+        int seatNum = buffer.getInt();
+        byte status = buffer.get();
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        short length = buffer.getShort();
+        String recordedBy = null;
+        if (length >= 0) {
+            byte[] name = new byte[length];
+            buffer.get(name);
+            recordedBy = new String(name, StandardCharsets.UTF_8);
+        }
+        return new StudentStatusEvent(
+                id,
+                seatNum,
+                statusOf(status),
+                epochSecond != Long.MIN_VALUE ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null,
+                recordedBy
+        );
+    }
+
+    private static byte statusCode(StudentStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        return switch (status) {
+            case PRESENT -> 1;
+            case ABSENT -> 2;
+            case LATE -> 3;
+        };
+    }
+
+    private static StudentStatus statusOf(byte code) {
+        return switch (code) {
+            case 0 -> null;
+            case 1 -> StudentStatus.PRESENT;
+            case 2 -> StudentStatus.ABSENT;
+            case 3 -> StudentStatus.LATE;
+            default -> throw new IllegalArgumentException("Unknown attendance status code: " + code);
+        };
+    }
+}
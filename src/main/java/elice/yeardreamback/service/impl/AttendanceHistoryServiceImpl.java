@@ -0,0 +1,250 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.AttendanceDailyResponse;
+import elice.yeardreamback.dto.AttendanceRecordResponse;
+import elice.yeardreamback.dto.AttendanceSummaryResponse;
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.entity.AttendanceDaily;
+import elice.yeardreamback.entity.AttendanceRecord;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.repository.AttendanceDailyRepository;
+import elice.yeardreamback.repository.AttendanceRecordRepository;
+import elice.yeardreamback.repository.StudentRepository;
+import elice.yeardreamback.service.AttendanceHistoryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 출석 이력 저장소.
+ * 출석 변경은 커밋 이후 메모리 대기열에만 넣고 (코치의 토글 응답에는 영향 없음),
+ * 주기적으로 모아서 attendance_record에 배치 INSERT 한다.
+ * 매일 새벽 전날 이력을 학생별 최종 상태로 집계해 attendance_daily에 저장해서
+ * 월 단위 리포트는 원본 이력을 훑지 않는다. 아직 집계하지 않은 날(오늘, 집계 전의 어제)은 원본 이력으로 채운다.
+ * 집계는 Redis 락을 잡은 인스턴스 하나만 실행한다.
+ * 배치 INSERT와 집계는 TransactionTemplate으로 묶는다 (스케줄러가 같은 객체의 메서드를 부르면 @Transactional 프록시를 거치지 않는다).
+ */
+@Slf4j
+@Service
+public class AttendanceHistoryServiceImpl implements AttendanceHistoryService {
+
+    private static final String INSERT_RECORD_SQL =
+            "insert into attendance_record (student_id, attendance_date, status, recorded_by, recorded_at) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_SQL =
+            "insert into attendance_daily (student_id, attendance_date, status) values (?, ?, ?)";
+    private static final String ROLLUP_LOCK_KEY_PREFIX = "attendance:rollup:lock:";
+
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final AttendanceDailyRepository attendanceDailyRepository;
+    private final StudentRepository studentRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> releaseLockScript;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration rollupLockTtl;
+    private final BlockingQueue<StudentStatusEvent> pending;
+
+    public AttendanceHistoryServiceImpl(AttendanceRecordRepository attendanceRecordRepository,
+                                        AttendanceDailyRepository attendanceDailyRepository,
+                                        StudentRepository studentRepository,
+                                        StringRedisTemplate redisTemplate,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${attendance.history.batch-size:500}") int batchSize,
+                                        @Value("${attendance.history.queue-capacity:100000}") int queueCapacity,
+                                        @Value("${attendance.history.rollup-lock-ms:600000}") long rollupLockMs) {
+        this.attendanceRecordRepository = attendanceRecordRepository;
+        this.attendanceDailyRepository = attendanceDailyRepository;
+        this.studentRepository = studentRepository;
+        this.redisTemplate = redisTemplate;
+        this.releaseLockScript = RedisScript.of(new ClassPathResource("redis/release-lock.lua"), Long.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.rollupLockTtl = Duration.ofMillis(rollupLockMs);
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    // 커밋된 변경을 대기열에만 넣고 바로 돌아간다
+    @TransactionalEventListener
+    public void onStatusChanged(StudentStatusEvent event) {
+        if (!pending.offer(event)) {
+            log.warn("attendance history queue full, dropping event for student {}", event.id());
+        }
+    }
+
+    /**
+     * 대기열을 비울 때까지 배치 단위로 저장한다.
+     * 저장에 실패하면 (배치 하나는 한 트랜잭션이라 일부만 들어가지 않는다) 배치를 대기열에 되돌리고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${attendance.history.flush-interval-ms:1000}")
+    public void flush() {
+        List<StudentStatusEvent> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertRecords(batch));
+            } catch (DataAccessException e) {
+                log.warn("attendance history flush failed, requeueing {} events: {}", batch.size(), e.getMessage());
+                requeue(batch);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public List<AttendanceRecordResponse> findByDate(LocalDate date) {
+        return attendanceRecordRepository.findByAttendanceDateOrderByStudentIdAscRecordedAtAsc(date).stream()
+                .map(AttendanceRecordResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 집계된 일자별 상태에, 아직 집계하지 않은 날(오늘, 새벽 집계 전의 어제)의 상태를 원본 이력으로 붙여서 돌려준다.
+     * 그날 변경이 없으면 전날 상태가 그대로 이어진다 (집계와 같은 규칙).
+     */
+    public List<AttendanceDailyResponse> findByStudent(Long studentId, LocalDate from, LocalDate to) {
+        List<AttendanceDailyResponse> days = new ArrayList<>(
+                attendanceDailyRepository.findByStudentIdAndAttendanceDateBetweenOrderByAttendanceDateAsc(studentId, from, to).stream()
+                        .map(AttendanceDailyResponse::fromEntity)
+                        .toList());
+
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isAfter(today.minusDays(1)) ? from : today.minusDays(1);
+        if (!days.isEmpty() && !days.get(days.size() - 1).attendanceDate().isBefore(start)) {
+            start = days.get(days.size() - 1).attendanceDate().plusDays(1);
+        }
+        LocalDate end = to.isBefore(today) ? to : today;
+        if (start.isAfter(end)) {
+            return days;
+        }
+
+        Map<LocalDate, StudentStatus> lastStatus = new TreeMap<>();
+        for (AttendanceRecord record : attendanceRecordRepository
+                .findByStudentIdAndAttendanceDateBetweenOrderByAttendanceDateAscRecordedAtAsc(studentId, start, end)) {
+            lastStatus.put(record.getAttendanceDate(), record.getStatus());
+        }
+        StudentStatus carried = days.isEmpty() ? null : days.get(days.size() - 1).status();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            carried = lastStatus.getOrDefault(date, carried);
+            if (carried != null) {
+                days.add(new AttendanceDailyResponse(studentId, date, carried));
+            }
+        }
+        return days;
+    }
+
+    public boolean isOwnRecord(Long studentId, String username) {
+        return studentRepository.findById(studentId)
+                .map(student -> username.equals(student.getUsername()))
+                .orElse(false);
+    }
+
+    public List<AttendanceSummaryResponse> summarizeMonth(YearMonth month) {
+        return attendanceDailyRepository.summarize(month.atDay(1), month.atEndOfMonth());
+    }
+
+    // 매일 00:10에 전날 이력 집계
+    @Scheduled(cron = "${attendance.history.rollup-cron:0 10 0 * * *}")
+    public void rollupYesterday() {
+        rollup(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 하루치 이력을 학생별 마지막 상태로 집계한다. 같은 날짜를 다시 집계하면 덮어쓴다.
+     * 그날 변경이 없는 학생은 전날 집계 상태를 (전날 집계도 없으면 현재 상태를) 그대로 이어서 모든 학생이 한 행씩 가진다.
+     * 삭제와 INSERT는 한 트랜잭션이라 집계 도중 실패하면 이전 집계가 그대로 남는다.
+     * 여러 인스턴스의 스케줄러가 동시에 돌아도 날짜별 Redis 락을 잡은 쪽만 집계한다.
+     */
+    public void rollup(LocalDate date) {
+        flush();
+
+        String lockKey = ROLLUP_LOCK_KEY_PREFIX + date;
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockValue, rollupLockTtl))) {
+            log.info("attendance rollup for {} is already running on another instance, skipping", date);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> replaceDaily(date));
+        } finally {
+            redisTemplate.execute(releaseLockScript, List.of(lockKey), lockValue);
+        }
+    }
+
+    private void replaceDaily(LocalDate date) {
+        Map<Long, StudentStatus> lastStatus = new HashMap<>();
+        studentRepository.findAll().forEach(student -> {
+            if (student.getStatus() != null) {
+                lastStatus.put(student.getId(), student.getStatus());
+            }
+        });
+        for (AttendanceDaily daily : attendanceDailyRepository.findByAttendanceDate(date.minusDays(1))) {
+            lastStatus.replace(daily.getStudentId(), daily.getStatus());
+        }
+        for (AttendanceRecord record : attendanceRecordRepository.findByAttendanceDateOrderByStudentIdAscRecordedAtAsc(date)) {
+            lastStatus.put(record.getStudentId(), record.getStatus());
+        }
+
+        attendanceDailyRepository.deleteByAttendanceDate(date);
+        jdbcTemplate.batchUpdate(INSERT_DAILY_SQL, lastStatus.entrySet(), batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setDate(2, Date.valueOf(date));
+            ps.setString(3, entry.getValue().name());
+        });
+    }
+
+    private void insertRecords(List<StudentStatusEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, batch, batch.size(), (ps, event) -> {
+            LocalDateTime recordedAt = event.updatedAt() != null ? event.updatedAt() : LocalDateTime.now();
+            ps.setLong(1, event.id());
+            ps.setDate(2, Date.valueOf(recordedAt.toLocalDate()));
+            ps.setString(3, event.status().name());
+            ps.setString(4, event.recordedBy());
+            ps.setTimestamp(5, Timestamp.valueOf(recordedAt));
+        });
+    }
+
+    // 이력은 recorded_at으로 정렬해서 읽으므로 대기열 뒤에 다시 넣어도 순서는 유지된다
+    private void requeue(List<StudentStatusEvent> batch) {
+        int dropped = 0;
+        for (StudentStatusEvent event : batch) {
+            if (!pending.offer(event)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("attendance history queue full, dropped {} events after failed flush", dropped);
+        }
+    }
+}
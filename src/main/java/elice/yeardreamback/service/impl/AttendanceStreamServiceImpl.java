@@ -0,0 +1,161 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.SeatMapChangedEvent;
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import elice.yeardreamback.service.AttendanceStreamService;
+import elice.yeardreamback.service.SeatMapService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 출석 현황 SSE 스트림.
+ * 구독 시 전체 좌석 스냅샷을 한 번 보내고, 이후에는 좌석 배치도에 반영된 좌석별 변경 (SeatState)만 보낸다.
+ * 변경에는 배치도 버전이 붙어 있어서 스냅샷 버전 이하의 변경은 버리고, 배치도를 다시 적재하면 구독을 끊어 스냅샷부터 다시 받게 한다.
+ * 전송은 구독자마다 가상 스레드에서 하므로 느린 구독자의 send가 다른 구독자를 막지 않고,
+ * 대기열이 가득 찬 (느린) 구독자는 연결을 끊어 다시 접속해 스냅샷부터 받게 한다.
+ */
+@Service
+public class AttendanceStreamServiceImpl implements AttendanceStreamService {
+
+    // 하트비트는 스냅샷 버전과 상관없이 보낸다
+    private static final long ALWAYS = Long.MAX_VALUE;
+
+    private final SeatMapService seatMapService;
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor dispatcher = new VirtualThreadTaskExecutor("attendance-sse-");
+
+    public AttendanceStreamServiceImpl(SeatMapService seatMapService,
+                                       @Value("${attendance.stream.timeout-ms:1800000}") long timeoutMs,
+                                       @Value("${attendance.stream.queue-capacity:256}") int queueCapacity) {
+        this.seatMapService = seatMapService;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 등록 후 스냅샷을 잡기 전까지 들어온 변경은 대기열에만 쌓이고 (전송 전),
+        // 스냅샷을 먼저 보낸 뒤 그 버전 이하의 변경은 버린다
+        subscribers.add(subscriber);
+        SeatMapSnapshot snapshot = seatMapService.snapshot();
+        subscriber.start(snapshot.version(), SseEmitter.event().name("snapshot").data(snapshot.seats()));
+        dispatch(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onSeatMapChanged(SeatMapChangedEvent event) {
+        if (event.reloaded()) {
+            // 스냅샷 이후의 변경분을 이어 붙일 수 없으니 다시 접속해 새 스냅샷을 받게 한다
+            subscribers.forEach(this::drop);
+            return;
+        }
+        offerAll(event.seat().version(), SseEmitter.event().name("status").data(event.seat()));
+    }
+
+    // 끊긴 연결을 찾아내기 위한 주기적인 코멘트 이벤트
+    @Scheduled(fixedDelayString = "${attendance.stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        offerAll(ALWAYS, SseEmitter.event().comment("ping"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void offerAll(long version, SseEmitter.SseEventBuilder event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(new Message(version, event))) {
+                dispatch(subscriber);
+            } else {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        // 스냅샷을 넣기 전에는 보내지 않고, 구독자마다 동시에 하나의 전송 작업만 돌도록 보장
+        if (subscriber.started && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder snapshot = subscriber.snapshot;
+            if (snapshot != null) {
+                subscriber.snapshot = null;
+                subscriber.emitter.send(snapshot);
+            }
+            Message message;
+            while ((message = subscriber.queue.poll()) != null) {
+                if (message.version > subscriber.snapshotVersion) {
+                    subscriber.emitter.send(message.event);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        // 마지막 poll 이후 finally 전까지 들어온 이벤트가 있으면 다시 예약
+        if (!subscriber.queue.isEmpty()) {
+            dispatch(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private record Message(long version, SseEmitter.SseEventBuilder event) {}
+
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Message> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // start 이후에만 읽는다 (started가 volatile이라 앞선 쓰기가 함께 보인다)
+        private long snapshotVersion;
+        private SseEmitter.SseEventBuilder snapshot;
+        private volatile boolean started;
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void start(long snapshotVersion, SseEmitter.SseEventBuilder snapshot) {
+            this.snapshotVersion = snapshotVersion;
+            this.snapshot = snapshot;
+            this.started = true;
+        }
+    }
+}
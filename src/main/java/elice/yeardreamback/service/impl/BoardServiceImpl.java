@@ -0,0 +1,166 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.CommentPageResponse;
+import elice.yeardreamback.dto.CommentRequest;
+import elice.yeardreamback.dto.CommentResponse;
+import elice.yeardreamback.dto.PostPageResponse;
+import elice.yeardreamback.dto.PostRequest;
+import elice.yeardreamback.dto.PostResponse;
+import elice.yeardreamback.dto.PostSummary;
+import elice.yeardreamback.entity.Comment;
+import elice.yeardreamback.entity.Post;
+import elice.yeardreamback.enums.BoardResult;
+import elice.yeardreamback.repository.CommentRepository;
+import elice.yeardreamback.repository.PostRepository;
+import elice.yeardreamback.service.BoardService;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 공용 게시판 (공지사항, 게시글, 댓글).
+ * 목록은 OFFSET 없이 (createdAt, id) 키셋으로 읽어서 뒤 페이지도 인덱스에서 바로 시작한다.
+ * 조회수는 PostViewCounter에 모았다가 배치로 반영하고, 댓글 수는 게시글 행에 함께 저장해 목록에서 COUNT를 하지 않는다.
+ * 공지사항 지정/해제는 코치와 관리자(staff)만 하고, 글과 댓글은 작성자 외에 staff도 지울 수 있다.
+ */
+@Service
+public class BoardServiceImpl implements BoardService {
+
+    // 첫 페이지 커서 (MySQL DATETIME 범위 안의 최소/최대값)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostViewCounter viewCounter;
+
+    public BoardServiceImpl(PostRepository postRepository, CommentRepository commentRepository, PostViewCounter viewCounter) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.viewCounter = viewCounter;
+    }
+
+    public PostPageResponse findPosts(Boolean notice, LocalDateTime beforeCreatedAt, Long beforeId, int size) {
+        List<PostSummary> posts = postRepository.findSummariesBefore(
+                notice,
+                beforeCreatedAt != null ? beforeCreatedAt : MAX_CREATED_AT,
+                beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.ofSize(size)).stream()
+                .map(post -> post.withViewCount(post.viewCount() + viewCounter.pending(post.id())))
+                .toList();
+        if (posts.size() < size) {
+            return new PostPageResponse(posts, null, null);
+        }
+        PostSummary last = posts.get(posts.size() - 1);
+        return new PostPageResponse(posts, last.createdAt(), last.id());
+    }
+
+    // 조회수는 바로 DB에 쓰지 않고 카운터에만 더한다
+    public Optional<PostResponse> viewPost(Long id) {
+        return postRepository.findById(id).map(post -> {
+            viewCounter.increment(id);
+            return PostResponse.fromEntity(post, post.getViewCount() + viewCounter.pending(id));
+        });
+    }
+
+    @Transactional
+    public PostResponse createPost(PostRequest request, String username, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        Post post = new Post();
+        post.setTitle(request.getTitle());
+        post.setContent(request.getContent());
+        post.setNotice(request.isNotice());
+        post.setAuthor(username);
+        post.setAuthorName(name);
+        post.setCreatedAt(now);
+        post.setUpdatedAt(now);
+        return PostResponse.fromEntity(postRepository.save(post), 0);
+    }
+
+    // 제목과 본문은 작성자만, 공지사항 여부는 staff만 바꾼다 (staff는 다른 사람의 글도 공지로 올리거나 내릴 수 있다)
+    @Transactional
+    public BoardResult updatePost(Long id, PostRequest request, String username, boolean staff) {
+        Optional<Post> found = postRepository.findById(id);
+        if (found.isEmpty()) {
+            return BoardResult.NOT_FOUND;
+        }
+        Post post = found.get();
+        boolean author = post.getAuthor().equals(username);
+        boolean contentChanged = !Objects.equals(post.getTitle(), request.getTitle())
+                || !Objects.equals(post.getContent(), request.getContent());
+        if ((!author && !staff) || (contentChanged && !author) || (post.isNotice() != request.isNotice() && !staff)) {
+            return BoardResult.FORBIDDEN;
+        }
+        post.setTitle(request.getTitle());
+        post.setContent(request.getContent());
+        post.setNotice(request.isNotice());
+        post.setUpdatedAt(LocalDateTime.now());
+        return BoardResult.OK;
+    }
+
+    // 작성자 또는 staff (관리 목적 삭제)
+    @Transactional
+    public BoardResult deletePost(Long id, String username, boolean staff) {
+        Optional<Post> found = postRepository.findById(id);
+        if (found.isEmpty()) {
+            return BoardResult.NOT_FOUND;
+        }
+        if (!staff && !found.get().getAuthor().equals(username)) {
+            return BoardResult.FORBIDDEN;
+        }
+        commentRepository.deleteByPostId(id);
+        postRepository.delete(found.get());
+        viewCounter.discard(id);
+        return BoardResult.OK;
+    }
+
+    public CommentPageResponse findComments(Long postId, LocalDateTime afterCreatedAt, Long afterId, int size) {
+        List<CommentResponse> comments = commentRepository.findByPostIdAfter(
+                postId,
+                afterCreatedAt != null ? afterCreatedAt : MIN_CREATED_AT,
+                afterId != null ? afterId : Long.MIN_VALUE,
+                PageRequest.ofSize(size)).stream()
+                .map(CommentResponse::fromEntity)
+                .toList();
+        if (comments.size() < size) {
+            return new CommentPageResponse(comments, null, null);
+        }
+        CommentResponse last = comments.get(comments.size() - 1);
+        return new CommentPageResponse(comments, last.createdAt(), last.id());
+    }
+
+    // 게시글의 댓글 수도 같은 트랜잭션에서 UPDATE 한 번으로 올린다
+    @Transactional
+    public Optional<CommentResponse> addComment(Long postId, CommentRequest request, String username, String name) {
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            return Optional.empty();
+        }
+        Comment comment = new Comment();
+        comment.setPostId(postId);
+        comment.setContent(request.getContent());
+        comment.setAuthor(username);
+        comment.setAuthorName(name);
+        comment.setCreatedAt(LocalDateTime.now());
+        return Optional.of(CommentResponse.fromEntity(commentRepository.save(comment)));
+    }
+
+    // 작성자 또는 staff (관리 목적 삭제)
+    @Transactional
+    public BoardResult deleteComment(Long postId, Long commentId, String username, boolean staff) {
+        Optional<Comment> found = commentRepository.findById(commentId).filter(comment -> comment.getPostId().equals(postId));
+        if (found.isEmpty()) {
+            return BoardResult.NOT_FOUND;
+        }
+        if (!staff && !found.get().getAuthor().equals(username)) {
+            return BoardResult.FORBIDDEN;
+        }
+        commentRepository.delete(found.get());
+        postRepository.addCommentCount(postId, -1);
+        return BoardResult.OK;
+    }
+}
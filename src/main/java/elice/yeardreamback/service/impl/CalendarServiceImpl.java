@@ -0,0 +1,139 @@
+package elice.yeardreamback.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import elice.yeardreamback.dto.CachedJson;
+import elice.yeardreamback.dto.CalendarEventRequest;
+import elice.yeardreamback.dto.CalendarEventResponse;
+import elice.yeardreamback.entity.CalendarEvent;
+import elice.yeardreamback.repository.CalendarEventRepository;
+import elice.yeardreamback.service.CalendarService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캘린더 일정.
+ * 기간별 조회 결과는 직렬화한 JSON과 ETag까지 캐시해서, 같은 달을 여는 요청은 DB 조회도 직렬화도 하지 않는다.
+ * 이 인스턴스에서 일정이 바뀌면 커밋 이후 세대 번호를 올려 캐시를 비우고,
+ * 다른 인스턴스의 변경은 expire-after-write-seconds 안에 반영된다.
+ */
+@Service
+public class CalendarServiceImpl implements CalendarService, MeterBinder {
+
+    private final CalendarEventRepository calendarEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<RangeKey, CachedJson> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CalendarServiceImpl(CalendarEventRepository calendarEventRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${calendar.cache.maximum-size:256}") long maximumSize,
+                               @Value("${calendar.cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.calendarEventRepository = calendarEventRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // from ~ to (양 끝 날짜 포함)와 겹치는 일정
+    public CachedJson findEvents(LocalDate from, LocalDate to) {
+        return cache.get(new RangeKey(generation.get(), from, to), key -> render(from, to));
+    }
+
+    @Transactional
+    public CalendarEventResponse create(CalendarEventRequest request) {
+        CalendarEvent event = new CalendarEvent();
+        apply(event, request);
+        CalendarEventResponse response = CalendarEventResponse.fromEntity(calendarEventRepository.save(event));
+        invalidate();
+        return response;
+    }
+
+    @Transactional
+    public Optional<CalendarEventResponse> update(Long id, CalendarEventRequest request) {
+        return calendarEventRepository.findById(id).map(event -> {
+            apply(event, request);
+            invalidate();
+            return CalendarEventResponse.fromEntity(event);
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        if (!calendarEventRepository.existsById(id)) {
+            return false;
+        }
+        calendarEventRepository.deleteById(id);
+        invalidate();
+        return true;
+    }
+
+    // cache.gets{cache=calendar.events} 등 Caffeine 지표로 노출
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "calendar.events");
+    }
+
+    private CachedJson render(LocalDate from, LocalDate to) {
+        List<CalendarEventResponse> events = calendarEventRepository.findOverlapping(from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+                .map(CalendarEventResponse::fromEntity)
+                .toList();
+        try {
+            return CachedJson.of(objectMapper.writeValueAsBytes(events));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize calendar events", e);
+        }
+    }
+
+    private static void apply(CalendarEvent event, CalendarEventRequest request) {
+        event.setTitle(request.getTitle());
+        event.setDescription(request.getDescription());
+        event.setLocation(request.getLocation());
+        event.setStartAt(request.getStartAt());
+        event.setEndAt(request.getEndAt());
+        event.setAllDay(request.isAllDay());
+        event.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 커밋 이후에 캐시를 비운다. 커밋 전에 비우면 그 사이 다른 요청이 이전 내용을 다시 캐시할 수 있다.
+     * 키에 세대 번호가 들어가므로 비우는 도중에 만들어진 이전 결과는 다시 조회되지 않는다.
+     */
+    private void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll();
+                }
+            });
+        } else {
+            evictAll();
+        }
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private record RangeKey(long generation, LocalDate from, LocalDate to) {}
+}
@@ -0,0 +1,53 @@
+package elice.yeardreamback.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import elice.yeardreamback.dto.ChatbotAnswer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 정규화한 질문 기준 챗봇 답변 캐시.
+ * 반복되는 질문은 BM25 순위 계산 없이 해시 조회 한 번으로 답한다 (답이 없는 질문도 빈 목록으로 캐시).
+ * FAQ가 바뀌면 세대 번호를 올리고 전체를 비운다. 키에 세대가 들어가므로
+ * 비우는 도중에 이전 색인으로 계산한 답이 들어와도 다시 조회되지 않는다.
+ */
+@Component
+public class ChatbotAnswerCache implements MeterBinder {
+
+    private final Cache<Key, List<ChatbotAnswer>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ChatbotAnswerCache(@Value("${chatbot.cache.maximum-size:1000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // question은 QueryNormalizer로 정규화한 질문
+    public List<ChatbotAnswer> get(String question, int limit, Supplier<List<ChatbotAnswer>> loader) {
+        Key key = new Key(generation.get(), question, limit);
+        return cache.get(key, k -> loader.get());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // cache.gets{cache=chatbot.answers,result=hit|miss}로 적중률을 본다
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "chatbot.answers");
+    }
+
+    private record Key(long generation, String query, int limit) {}
+}
@@ -0,0 +1,102 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.chatbot.FaqIndex;
+import elice.yeardreamback.chatbot.QueryNormalizer;
+import elice.yeardreamback.dto.ChatbotAnswer;
+import elice.yeardreamback.dto.FaqChangedEvent;
+import elice.yeardreamback.repository.FaqRepository;
+import elice.yeardreamback.service.ChatbotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FAQ 챗봇. 외부 검색 엔진 없이 메모리 역색인(FaqIndex)에서 BM25로 가장 비슷한 질문을 찾는다.
+ * 시작할 때 전체 FAQ로 색인을 한 번 만들고, 이후에는 커밋된 FAQ 변경만 해당 항목에 반영한다.
+ * 같은 질문이 반복되므로 답은 정규화한 질문 기준으로 캐시하고, 색인이 바뀌면 캐시를 비운다.
+ */
+@Slf4j
+@Service
+public class ChatbotServiceImpl implements ChatbotService {
+
+    private final FaqRepository faqRepository;
+    private final ChatbotAnswerCache answerCache;
+
+    private final Object indexLock = new Object();
+    private volatile FaqIndex index = new FaqIndex();
+    // 재구성 중에 커밋된 변경 (indexLock으로 보호). 새 색인으로 바꾸기 직전에 다시 적용한다
+    private List<FaqChangedEvent> pendingChanges;
+
+    public ChatbotServiceImpl(FaqRepository faqRepository, ChatbotAnswerCache answerCache) {
+        this.faqRepository = faqRepository;
+        this.answerCache = answerCache;
+    }
+
+    // 캐시 키와 같은 정규화한 질문으로 순위를 매긴다 (같은 키에는 항상 같은 답)
+    public List<ChatbotAnswer> ask(String question, int limit) {
+        String normalized = QueryNormalizer.normalize(question);
+        return answerCache.get(normalized, limit, () -> search(normalized, limit));
+    }
+
+    @TransactionalEventListener
+    public void onFaqChanged(FaqChangedEvent event) {
+        synchronized (indexLock) {
+            apply(index, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        }
+        answerCache.invalidateAll();
+    }
+
+    /**
+     * DB의 전체 FAQ로 색인을 새로 만들어 교체한다. 만드는 동안에는 기존 색인으로 답한다.
+     * 조회 도중이나 뒤에 커밋된 변경은 조회 결과에 없거나 더 오래된 값으로 덮일 수 있으므로,
+     * 재구성을 시작한 뒤 들어온 변경을 교체 직전에 잠금 안에서 순서대로 다시 적용한다 (같은 변경을 두 번 적용해도 결과는 같다).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        synchronized (indexLock) {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+        FaqIndex rebuilt = new FaqIndex();
+        try {
+            faqRepository.findAll().forEach(faq -> rebuilt.upsert(faq.getId(), faq.getQuestion(), faq.getAnswer()));
+        } catch (RuntimeException e) {
+            log.warn("chatbot index rebuild failed: {}", e.getMessage());
+            synchronized (indexLock) {
+                pendingChanges = null;
+            }
+            return;
+        }
+        synchronized (indexLock) {
+            pendingChanges.forEach(event -> apply(rebuilt, event));
+            index = rebuilt;
+            pendingChanges = null;
+        }
+        answerCache.invalidateAll();
+        log.info("chatbot index built with {} FAQ entries", rebuilt.size());
+    }
+
+    private List<ChatbotAnswer> search(String question, int limit) {
+        return index.search(question, limit).stream()
+                .map(hit -> new ChatbotAnswer(hit.id(), hit.question(), hit.answer(), hit.score()))
+                .toList();
+    }
+
+    private static void apply(FaqIndex target, FaqChangedEvent event) {
+        if (event.deleted()) {
+            target.remove(event.id());
+        } else {
+            target.upsert(event.id(), event.question(), event.answer());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package elice.yeardreamback.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import elice.yeardreamback.dto.CachedJson;
+import elice.yeardreamback.dto.Curriculum;
+import elice.yeardreamback.service.CurriculumService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 커리큘럼 소개 내용.
+ * curriculum.location의 JSON을 한 번 읽어 읽기 전용 모델과 응답 본문, ETag까지 만들어 두고 요청마다 그대로 돌려준다.
+ * 파일의 수정 시각을 주기적으로 확인해서 바뀌었을 때만 다시 만든다.
+ * 다시 읽다가 실패하면 (잘못된 JSON 등) 이전 내용을 계속 쓴다.
+ */
+@Slf4j
+@Service
+public class CurriculumServiceImpl implements CurriculumService {
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public CurriculumServiceImpl(ResourceLoader resourceLoader,
+                                 ObjectMapper objectMapper,
+                                 @Value("${curriculum.location:classpath:curriculum/curriculum.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+
+    public CachedJson curriculum() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current.json;
+    }
+
+    public void reload() {
+        lock.lock();
+        try {
+            Resource resource = resourceLoader.getResource(location);
+            long lastModified = lastModified(resource);
+            Curriculum curriculum;
+            try (InputStream in = resource.getInputStream()) {
+                curriculum = objectMapper.readValue(in, Curriculum.class);
+            }
+            snapshot = new Snapshot(curriculum, CachedJson.of(objectMapper.writeValueAsBytes(curriculum)), lastModified);
+        } catch (IOException e) {
+            if (snapshot == null) {
+                throw new UncheckedIOException("Failed to load curriculum from " + location, e);
+            }
+            log.warn("curriculum reload failed, keeping previous content: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 수정 시각이 바뀐 경우에만 다시 읽는다
+    @Scheduled(fixedDelayString = "${curriculum.check-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Snapshot current = snapshot;
+        if (current != null && lastModified(resourceLoader.getResource(location)) == current.lastModified) {
+            return;
+        }
+        reload();
+    }
+
+    // jar 안의 리소스처럼 수정 시각을 알 수 없으면 0
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Snapshot(Curriculum curriculum, CachedJson json, long lastModified) {}
+}
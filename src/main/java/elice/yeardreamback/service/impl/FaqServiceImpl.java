@@ -0,0 +1,68 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.FaqChangedEvent;
+import elice.yeardreamback.dto.FaqRequest;
+import elice.yeardreamback.dto.FaqResponse;
+import elice.yeardreamback.entity.Faq;
+import elice.yeardreamback.repository.FaqRepository;
+import elice.yeardreamback.service.FaqService;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FAQ 관리. 변경은 커밋 이후 FaqChangedEvent로 알려서 챗봇 색인이 해당 항목만 고치게 한다.
+ */
+@Service
+public class FaqServiceImpl implements FaqService {
+
+    private final FaqRepository faqRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FaqServiceImpl(FaqRepository faqRepository, ApplicationEventPublisher eventPublisher) {
+        this.faqRepository = faqRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<FaqResponse> findAll() {
+        return faqRepository.findAll().stream()
+                .map(FaqResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public FaqResponse create(FaqRequest request) {
+        Faq faq = new Faq();
+        faq.setQuestion(request.getQuestion());
+        faq.setAnswer(request.getAnswer());
+        faq.setUpdatedAt(LocalDateTime.now());
+        Faq saved = faqRepository.save(faq);
+        eventPublisher.publishEvent(FaqChangedEvent.saved(saved));
+        return FaqResponse.fromEntity(saved);
+    }
+
+    @Transactional
+    public Optional<FaqResponse> update(Long id, FaqRequest request) {
+        return faqRepository.findById(id).map(faq -> {
+            faq.setQuestion(request.getQuestion());
+            faq.setAnswer(request.getAnswer());
+            faq.setUpdatedAt(LocalDateTime.now());
+            eventPublisher.publishEvent(FaqChangedEvent.saved(faq));
+            return FaqResponse.fromEntity(faq);
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        if (!faqRepository.existsById(id)) {
+            return false;
+        }
+        faqRepository.deleteById(id);
+        eventPublisher.publishEvent(FaqChangedEvent.deleted(id));
+        return true;
+    }
+}
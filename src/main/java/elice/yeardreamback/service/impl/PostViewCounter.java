@@ -0,0 +1,102 @@
+package elice.yeardreamback.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 카운터.
+ * 조회마다 UPDATE를 보내면 공지가 올라온 직후처럼 모두가 같은 글을 열 때 한 행에 잠금이 몰리므로,
+ * 글별 LongAdder(스레드 간 경합을 셀로 나눠 받는 카운터)에 모았다가 주기적으로 JDBC 배치 UPDATE로 더한다.
+ * 반영에 실패한 수는 카운터에 되돌려 다음 주기에 다시 보낸다.
+ * 한 주기 동안 조회가 없던 글의 카운터는 지워서 맵이 지금까지 조회된 모든 글로 커지지 않게 한다.
+ * 지우는 순간 그 카운터에 더해진 조회는 (반영 쪽이든 조회 쪽이든) 먼저 본 쪽이 새 카운터로 옮긴다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String UPDATE_SQL = "update post set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           @Value("${board.view.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void increment(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+        // 반영 주기에 막 지워진 카운터였다면 더한 수를 새 카운터로 옮긴다
+        if (pending.get(postId) != adder) {
+            moveToCurrent(postId, adder);
+        }
+    }
+
+    // 아직 DB에 더하지 않은 조회수 (반영 중인 수는 잠깐 빠질 수 있다)
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // 삭제된 글의 카운터를 버린다
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view.flush-interval-ms:5000}")
+    public void flush() {
+        List<long[]> batch = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                batch.add(new long[]{postId, views});
+            } else if (pending.remove(postId, adder)) {
+                moveToCurrent(postId, adder);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+                ps.setLong(1, entry[1]);
+                ps.setLong(2, entry[0]);
+            });
+        } catch (DataAccessException e) {
+            log.warn("post view count flush failed, retrying {} posts later: {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> pending.computeIfAbsent(entry[0], id -> new LongAdder()).add(entry[1]));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 맵에서 빠진 카운터에 남은 수를 현재 카운터로 옮긴다 (sumThenReset이라 같은 조회를 두 번 옮기지 않는다)
+    private void moveToCurrent(Long postId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late > 0) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+        }
+    }
+}
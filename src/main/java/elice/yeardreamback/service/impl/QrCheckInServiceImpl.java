@@ -0,0 +1,250 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.QrCodeResponse;
+import elice.yeardreamback.dto.SeatState;
+import elice.yeardreamback.dto.StudentStatusUpdateRequest;
+import elice.yeardreamback.enums.QrCheckInResult;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.service.QrCheckInService;
+import elice.yeardreamback.service.SeatMapService;
+import elice.yeardreamback.service.StudentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * QR 출석 체크.
+ * 코치가 강의실 화면에 띄우는 QR 페이로드는 "시간창.서명" 형태로 학생과 무관하고 시간창마다 바뀐다.
+ * 스캔한 학생은 로그인 계정으로 식별하므로 다른 학생의 출석을 대신 찍을 수 없다.
+ * 계정 → 학생 id 목록은 시작할 때와 주기적으로 통째로 읽어 두어서 9시 직후 몰리는 스캔이 DB를 조회하지 않는다.
+ * 검증된 체크인은 고정 크기 대기열에 쌓고, 주기적으로 학생별 첫 체크인만 남겨
+ * StudentService.updateStatuses 한 번으로 일괄 반영한다.
+ */
+@Slf4j
+@Service
+public class QrCheckInServiceImpl implements QrCheckInService {
+
+    private static final String RECORDED_BY = "qr";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final StudentService studentService;
+    private final SeatMapService seatMapService;
+    private final SecretKeySpec key;
+    private final long windowSeconds;
+    private final LocalTime lateCutoff;
+    private final int batchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final BlockingQueue<CheckIn> pending;
+    // HMAC 인스턴스는 코어 수만큼만 보관하고 빌려 쓴다 (가상 스레드마다 새로 만들지 않도록 ThreadLocal을 쓰지 않는다)
+    private final BlockingQueue<Mac> macs = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+    // 로그인 계정 → 학생 id (통째로 교체)
+    private volatile Map<String, Long> studentIds = Map.of();
+
+    public QrCheckInServiceImpl(StudentService studentService,
+                                SeatMapService seatMapService,
+                                @Value("${attendance.qr.secret}") String secret,
+                                @Value("${attendance.qr.window-seconds:30}") long windowSeconds,
+                                @Value("${attendance.qr.late-cutoff:09:10}") String lateCutoff,
+                                @Value("${attendance.qr.queue-capacity:10000}") int queueCapacity,
+                                @Value("${attendance.qr.batch-size:200}") int batchSize) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        // JWT 서명 키와는 다른 전용 키를 쓴다
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("attendance.qr.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.studentService = studentService;
+        this.seatMapService = seatMapService;
+        this.key = new SecretKeySpec(secretBytes, "HmacSHA256");
+        this.windowSeconds = windowSeconds;
+        this.lateCutoff = LocalTime.parse(lateCutoff);
+        this.batchSize = batchSize;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 학생과 연결된 로그인 계정 목록을 다시 읽는다. 계정 연결은 DB에서 바뀌므로 account-refresh-ms마다 다시 읽고,
+     * 읽지 못하면 이전 목록을 유지한다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${attendance.qr.account-refresh-ms:60000}",
+            initialDelayString = "${attendance.qr.account-refresh-ms:60000}")
+    public void reloadStudentIds() {
+        try {
+            Map<String, Long> loaded = new HashMap<>();
+            studentService.findAccounts().forEach(account -> loaded.put(account.username(), account.id()));
+            studentIds = loaded;
+        } catch (RuntimeException e) {
+            log.warn("qr check-in student accounts reload failed, keeping {} accounts: {}", studentIds.size(), e.getMessage());
+        }
+    }
+
+    // 현재 시간창의 강의실 QR (시간창이 지나면 다시 발급)
+    public QrCodeResponse issue() {
+        long window = Instant.now().getEpochSecond() / windowSeconds;
+        String payload = window + "." + sign(window);
+        return new QrCodeResponse(payload, Instant.ofEpochSecond((window + 1) * windowSeconds));
+    }
+
+    public QrCheckInResult checkIn(String username, String payload) {
+        if (!verify(payload)) {
+            return QrCheckInResult.INVALID;
+        }
+        Long studentId = username != null ? studentIds.get(username) : null;
+        if (studentId == null) {
+            return QrCheckInResult.NOT_STUDENT;
+        }
+        return pending.offer(new CheckIn(studentId, Instant.now())) ? QrCheckInResult.ACCEPTED : QrCheckInResult.BUSY;
+    }
+
+    /**
+     * 대기열의 체크인을 모아서 반영한다.
+     * 같은 학생의 중복 스캔은 첫 번째만 쓰고, 오늘 이미 출석/지각 처리된 학생은 건너뛴다.
+     * 반영에 실패하면 (한 트랜잭션이라 일부만 반영되지 않는다) 체크인을 대기열에 되돌리고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${attendance.qr.flush-interval-ms:200}")
+    public void flush() {
+        List<CheckIn> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            Map<Long, CheckIn> firstScans = new LinkedHashMap<>();
+            for (CheckIn checkIn : batch) {
+                firstScans.putIfAbsent(checkIn.studentId(), checkIn);
+            }
+            batch.clear();
+
+            Map<Long, SeatState> seats = new HashMap<>();
+            seatMapService.snapshot().seats().forEach(seat -> seats.put(seat.id(), seat));
+
+            LocalDate today = LocalDate.now(zone);
+            List<StudentStatusUpdateRequest> requests = new ArrayList<>(firstScans.size());
+            for (CheckIn checkIn : firstScans.values()) {
+                SeatState seat = seats.get(checkIn.studentId());
+                if (seat == null || alreadyCheckedIn(seat, today)) {
+                    continue;
+                }
+
+                StudentStatusUpdateRequest request = new StudentStatusUpdateRequest();
+                request.setId(checkIn.studentId());
+                request.setStatus(statusAt(checkIn.scannedAt()));
+                requests.add(request);
+            }
+
+            if (requests.isEmpty()) {
+                continue;
+            }
+            try {
+                studentService.updateStatuses(requests, RECORDED_BY);
+            } catch (RuntimeException e) {
+                log.warn("qr check-in flush failed, requeueing {} check-ins: {}", firstScans.size(), e.getMessage());
+                requeue(firstScans.values());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 서명이 맞고 현재 또는 직전 시간창이면 true
+    private boolean verify(String payload) {
+        if (payload == null) {
+            return false;
+        }
+        int dot = payload.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+
+        long window;
+        byte[] signature;
+        try {
+            window = Long.parseLong(payload, 0, dot, 10);
+            signature = Base64.getUrlDecoder().decode(payload.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        long currentWindow = Instant.now().getEpochSecond() / windowSeconds;
+        if (window != currentWindow && window != currentWindow - 1) {
+            return false;
+        }
+        return MessageDigest.isEqual(signature, mac(window));
+    }
+
+    private void requeue(Iterable<CheckIn> checkIns) {
+        int dropped = 0;
+        for (CheckIn checkIn : checkIns) {
+            if (!pending.offer(checkIn)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("qr check-in queue full, dropped {} check-ins after failed flush", dropped);
+        }
+    }
+
+    private boolean alreadyCheckedIn(SeatState seat, LocalDate today) {
+        return (seat.status() == StudentStatus.PRESENT || seat.status() == StudentStatus.LATE)
+                && seat.updatedAt() != null
+                && seat.updatedAt().toLocalDate().equals(today);
+    }
+
+    private StudentStatus statusAt(Instant scannedAt) {
+        LocalTime time = LocalDateTime.ofInstant(scannedAt, zone).toLocalTime();
+        return time.isAfter(lateCutoff) ? StudentStatus.LATE : StudentStatus.PRESENT;
+    }
+
+    private String sign(long window) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac(window));
+    }
+
+    private byte[] mac(long window) {
+        byte[] message = ("classroom." + window).getBytes(StandardCharsets.US_ASCII);
+        Mac mac = macs.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            return Arrays.copyOf(mac.doFinal(message), SIGNATURE_BYTES);
+        } finally {
+            macs.offer(mac);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private record CheckIn(Long studentId, Instant scannedAt) {}
+}
@@ -0,0 +1,105 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.RefreshRotation;
+import elice.yeardreamback.enums.RefreshResult;
+import elice.yeardreamback.jwt.JWTClaimsCache;
+import elice.yeardreamback.jwt.JWTUtil;
+import elice.yeardreamback.jwt.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 회전.
+ * 로그인마다 토큰 계열(familyId)을 만들고 Redis에는 계열별로 현재 유효한 jti 하나만 TTL과 함께 둔다.
+ * 갱신할 때마다 새 리프레시 토큰을 발급하고 이전 토큰은 더 이상 쓸 수 없으며,
+ * 이미 회전된 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기한다.
+ * 회전으로 밀려난 jti와 재사용 시 계열의 현재 jti는 폐기 목록(TokenServiceImpl)에도 올려서 어디에서도 다시 인증되지 않게 한다.
+ * 확인과 교체는 Lua 스크립트 하나로 원자적으로 처리한다.
+ */
+@Service
+public class RefreshTokenServiceImpl {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+
+    private final JWTUtil jwtUtil;
+    private final JWTClaimsCache jwtClaimsCache;
+    private final StringRedisTemplate redisTemplate;
+    private final TokenServiceImpl tokenServiceImpl;
+    private final RedisScript<List> rotateScript;
+    private final long refreshExpiredMs;
+
+    public RefreshTokenServiceImpl(JWTUtil jwtUtil,
+                                   JWTClaimsCache jwtClaimsCache,
+                                   StringRedisTemplate redisTemplate,
+                                   TokenServiceImpl tokenServiceImpl,
+                                   @Value("${spring.jwt.refresh-expired-ms:604800000}") long refreshExpiredMs) {
+        this.jwtUtil = jwtUtil;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.redisTemplate = redisTemplate;
+        this.tokenServiceImpl = tokenServiceImpl;
+        this.rotateScript = RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), List.class);
+        this.refreshExpiredMs = refreshExpiredMs;
+    }
+
+    public long getRefreshExpiredMs() {
+        return refreshExpiredMs;
+    }
+
+    // 로그인 시 새 계열 시작
+    public String issue(String username, String role, String name) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(FAMILY_KEY_PREFIX + familyId, tokenId, Duration.ofMillis(refreshExpiredMs));
+        return jwtUtil.createRefreshJwt(tokenId, familyId, username, role, name, refreshExpiredMs);
+    }
+
+    /**
+     * 검증된 리프레시 토큰으로 같은 계열의 새 토큰을 발급한다.
+     */
+    public RefreshRotation rotate(JwtClaims claims) {
+        if (claims.familyId() == null || claims.id() == null) {
+            return new RefreshRotation(RefreshResult.UNKNOWN, null);
+        }
+
+        String tokenId = UUID.randomUUID().toString();
+        List<?> result = redisTemplate.execute(rotateScript, List.of(FAMILY_KEY_PREFIX + claims.familyId()),
+                claims.id(), tokenId, Long.toString(refreshExpiredMs));
+        long status = result != null && !result.isEmpty() ? (Long) result.get(0) : -1;
+
+        if (status < 0) {
+            return new RefreshRotation(RefreshResult.UNKNOWN, null);
+        }
+        // 제시된 토큰은 회전이든 재사용이든 더는 쓸 수 없다
+        tokenServiceImpl.revoke(claims);
+        if (status == 0) {
+            // 탈취한 쪽이든 원래 사용자든 계열의 최신 토큰도 함께 폐기
+            long currentTtlMs = (Long) result.get(2);
+            if (currentTtlMs > 0) {
+                tokenServiceImpl.revoke((String) result.get(1), Duration.ofMillis(currentTtlMs));
+            }
+            return new RefreshRotation(RefreshResult.REUSED, null);
+        }
+        String refreshToken = jwtUtil.createRefreshJwt(tokenId, claims.familyId(), claims.username(), claims.role(), claims.name(), refreshExpiredMs);
+        return new RefreshRotation(RefreshResult.ROTATED, refreshToken);
+    }
+
+    // 로그아웃 시 계열 전체 폐기
+    public void revokeFamily(String refreshToken) {
+        try {
+            JwtClaims claims = jwtClaimsCache.get(refreshToken);
+            if (claims.familyId() != null) {
+                redisTemplate.delete(FAMILY_KEY_PREFIX + claims.familyId());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료되었거나 잘못된 토큰은 이미 쓸 수 없다
+        }
+    }
+}
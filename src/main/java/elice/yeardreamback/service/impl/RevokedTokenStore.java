@@ -0,0 +1,163 @@
+package elice.yeardreamback.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis에 저장하는 폐기 토큰(jti) 목록. 논블로킹 ReactiveStringRedisTemplate을 쓴다.
+ * 조회와 기록은 짧은 시간창(batch-window-ms) 또는 batch-size 단위로 모아서 보낸다.
+ * 조회는 MGET 한 번, 기록은 SET EX를 한꺼번에 보내고 (Lettuce가 한 연결에 파이프라인으로 흘려보냄)
+ * 기록한 jti들은 줄바꿈으로 묶어 pub/sub 메시지 하나로 다른 인스턴스에 알린다.
+ * 배치는 하류가 요청한 만큼만 만들고 (fair backpressure) 동시에 보내는 배치 수는 max-in-flight로 제한한다.
+ * Redis가 멈춰서 대기열이 queue-capacity를 넘으면 새 요청은 바로 에러로 끝난다.
+ * 처리 파이프라인이 에러로 끝나면 다시 구독한다 (대기열은 구독자가 없어도 유지된다).
+ */
+@Slf4j
+@Component
+public class RevokedTokenStore {
+
+    public static final String CHANNEL = "revoked";
+
+    private static final String KEY_PREFIX = "revoked:";
+    private static final String VALUE = "logout";
+    // 여러 스레드가 동시에 넣을 때 Sinks 경합은 잠깐 재시도해서 해결
+    private static final Duration CONTENTION_TIMEOUT = Duration.ofMillis(100);
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONTENTION = Sinks.EmitFailureHandler.busyLooping(CONTENTION_TIMEOUT);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final Duration window;
+    private final int maxInFlight;
+    // 구독자가 잠시 없어도 (다시 구독하는 동안) 닫히지 않도록 autoCancel을 끈다
+    private final Sinks.Many<Lookup> lookups;
+    private final Sinks.Many<Write> writes;
+    private volatile boolean closed;
+
+    public RevokedTokenStore(ReactiveStringRedisTemplate redisTemplate,
+                             @Value("${spring.jwt.revocation.batch-size:128}") int batchSize,
+                             @Value("${spring.jwt.revocation.batch-window-ms:2}") long batchWindowMs,
+                             @Value("${spring.jwt.revocation.max-in-flight:8}") int maxInFlight,
+                             @Value("${spring.jwt.revocation.queue-capacity:8192}") int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.window = Duration.ofMillis(batchWindowMs);
+        this.maxInFlight = maxInFlight;
+        this.lookups = Sinks.many().multicast().onBackpressureBuffer(queueCapacity, false);
+        this.writes = Sinks.many().multicast().onBackpressureBuffer(queueCapacity, false);
+        subscribeLookups();
+        subscribeWrites();
+    }
+
+    // 폐기된 jti면 true
+    public Mono<Boolean> isRevoked(String jti) {
+        Sinks.One<Boolean> result = Sinks.one();
+        if (!enqueue(lookups, new Lookup(jti, result))) {
+            return Mono.error(new IllegalStateException("revoked token lookup queue is full"));
+        }
+        return result.asMono();
+    }
+
+    // ttl이 지나면 Redis에서 자동으로 사라진다 (토큰의 남은 유효 시간)
+    public Mono<Void> revoke(String jti, Duration ttl) {
+        Sinks.Empty<Void> done = Sinks.empty();
+        if (!enqueue(writes, new Write(jti, ttl, done))) {
+            return Mono.error(new IllegalStateException("revoked token write queue is full"));
+        }
+        return done.asMono();
+    }
+
+    // 현재 Redis에 남아 있는 모든 폐기 jti
+    public Flux<String> revokedIds() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        return redisTemplate.scan(options).map(key -> key.substring(KEY_PREFIX.length()));
+    }
+
+    // 남은 요청을 마저 보내고 종료
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        lookups.emitComplete(RETRY_ON_CONTENTION);
+        writes.emitComplete(RETRY_ON_CONTENTION);
+    }
+
+    private void subscribeLookups() {
+        lookups.asFlux()
+                .bufferTimeout(batchSize, window, true)
+                .flatMap(this::lookupBatch, maxInFlight)
+                .subscribe(null, e -> resubscribe("lookup", e, this::subscribeLookups));
+    }
+
+    private void subscribeWrites() {
+        writes.asFlux()
+                .bufferTimeout(batchSize, window, true)
+                .flatMap(this::writeBatch, maxInFlight)
+                .subscribe(null, e -> resubscribe("write", e, this::subscribeWrites));
+    }
+
+    // 진행 중이던 배치의 호출자는 timeout-ms가 지나면 실패로 끝난다
+    private void resubscribe(String pipeline, Throwable error, Runnable subscribe) {
+        if (closed) {
+            return;
+        }
+        log.warn("revoked token {} pipeline failed, resubscribing: {}", pipeline, error.toString());
+        subscribe.run();
+    }
+
+    /**
+     * 대기열에 넣는다. 가득 찼으면 false.
+     * emitNext는 넘칠 때 싱크 자체를 에러로 닫아 버리므로 tryEmitNext로 결과를 직접 확인한다.
+     */
+    private static <T> boolean enqueue(Sinks.Many<T> sink, T item) {
+        long deadline = System.nanoTime() + CONTENTION_TIMEOUT.toNanos();
+        while (true) {
+            Sinks.EmitResult result = sink.tryEmitNext(item);
+            if (result.isSuccess()) {
+                return true;
+            }
+            // 여러 스레드가 동시에 넣을 때만 잠깐 재시도
+            if (result != Sinks.EmitResult.FAIL_NON_SERIALIZED || System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private Mono<Void> lookupBatch(List<Lookup> batch) {
+        List<String> keys = batch.stream().map(lookup -> KEY_PREFIX + lookup.jti).toList();
+        return redisTemplate.opsForValue().multiGet(keys)
+                .doOnNext(values -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result.tryEmitValue(values.get(i) != null);
+                    }
+                })
+                .doOnError(e -> batch.forEach(lookup -> lookup.result.tryEmitError(e)))
+                // 실패한 배치만 에러로 끝내고 이후 배치는 계속 처리
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Void> writeBatch(List<Write> batch) {
+        String ids = String.join("\n", batch.stream().map(write -> write.jti).toList());
+        return Flux.fromIterable(batch)
+                .flatMap(write -> redisTemplate.opsForValue().set(KEY_PREFIX + write.jti, VALUE, write.ttl))
+                .then(redisTemplate.convertAndSend(CHANNEL, ids))
+                .doOnSuccess(receivers -> batch.forEach(write -> write.done.tryEmitEmpty()))
+                .doOnError(e -> batch.forEach(write -> write.done.tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private record Lookup(String jti, Sinks.One<Boolean> result) {}
+
+    private record Write(String jti, Duration ttl, Sinks.Empty<Void> done) {}
+}
@@ -0,0 +1,221 @@
+package elice.yeardreamback.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import elice.yeardreamback.dto.SeatMapChangedEvent;
+import elice.yeardreamback.dto.SeatMapSnapshot;
+import elice.yeardreamback.dto.SeatState;
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.repository.StudentRepository;
+import elice.yeardreamback.service.SeatMapService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학생 id로 색인한 메모리 상의 출석 배치도 (좌석 번호가 같은 학생이 있어도 서로 덮어쓰지 않는다).
+ * 처음 조회할 때 DB에서 좌석 번호, id 순으로 한 번 읽어오고, 이후에는 커밋된 출석 변경으로 해당 학생만 갱신한다.
+ * 변경은 lock 안의 맵을 바로 고치고, 조회에 쓰는 불변 목록은 변경 뒤 첫 조회 때 한 번만 복사한다 (변경마다 전체를 복사하지 않는다).
+ * 변경마다 버전이 1씩 오르고, 각 좌석은 마지막으로 바뀐 버전을 기억해서 변경분만 골라낼 수 있다.
+ * 버전은 적재 시각(ms)과 직전 버전 + 1 중 큰 값에서 시작하므로 다시 적재하거나 서버가 재시작되어도 작아지지 않는다.
+ * 클라이언트가 현재보다 큰 버전을 보내면 (다른 인스턴스나 재시작 전의 버전) 전체를 돌려준다.
+ * 다른 인스턴스의 변경은 AttendanceEventBus가 트랜잭션 밖에서 발행하므로 fallbackExecution으로 함께 받는다.
+ * 반영한 변경은 버전과 함께 SeatMapChangedEvent로 알린다 (lock 안에서 발행하므로 버전 순서대로 전달된다).
+ * JSON은 리플렉션 없이 JsonGenerator로 필드를 직접 쓴다 (형식은 ObjectMapper로 레코드를 직렬화한 것과 같다).
+ */
+@Service
+public class SeatMapServiceImpl implements SeatMapService {
+
+    private final StudentRepository studentRepository;
+    private final JsonFactory jsonFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 조회용으로 발행한 불변 배치도 (변경이 있으면 null로 두고 다음 조회 때 다시 만든다)
+    private volatile State state;
+    // 아래 필드는 lock 안에서만 읽고 쓴다. 값을 바꿔도 LinkedHashMap의 순서(좌석 번호, id)는 유지된다
+    private final Map<Long, SeatState> byId = new LinkedHashMap<>();
+    private boolean loaded;
+    private long baseVersion;
+    // 지금까지 발급한 가장 큰 버전
+    private long lastVersion;
+
+    public SeatMapServiceImpl(StudentRepository studentRepository, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.studentRepository = studentRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.eventPublisher = eventPublisher;
+    }
+
+    public SeatMapSnapshot snapshot() {
+        State current = current();
+        return new SeatMapSnapshot(current.version, current.seats, current.json());
+    }
+
+    public void writeChangesSince(long sinceVersion, OutputStream out) throws IOException {
+        State current = current();
+        // 현재 배치도를 적재하기 전이거나 현재보다 큰 버전이면 변경분을 알 수 없으니 전체를 돌려준다
+        boolean full = current.needsFullResync(sinceVersion);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("version", current.version);
+            generator.writeBooleanField("full", full);
+            generator.writeArrayFieldStart("seats");
+            for (SeatState seat : current.seats) {
+                if (full || seat.version() > sinceVersion) {
+                    writeSeat(generator, seat);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(StudentStatusEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                // 아직 적재 전이면 다음 조회 때 DB에서 최신 상태를 읽는다
+                return;
+            }
+
+            SeatState seat = byId.get(event.id());
+            if (seat == null || seat.seatNum() != event.seatNum()) {
+                // 배치도에 없는 학생이거나 자리를 옮긴 학생이면 다음 조회 때 다시 적재
+                reset();
+                return;
+            }
+            // 다른 인스턴스의 변경은 늦게 도착할 수 있으므로 이미 반영된 것보다 오래된 변경은 버린다
+            if (seat.updatedAt() != null && event.updatedAt() != null && event.updatedAt().isBefore(seat.updatedAt())) {
+                return;
+            }
+
+            long version = ++lastVersion;
+            SeatState changed = new SeatState(seat.id(), seat.name(), seat.seatNum(), event.status(), event.updatedAt(), version);
+            byId.put(changed.id(), changed);
+            // 조회용 목록은 다음 조회 때 그 사이의 변경을 모아 한 번만 다시 만든다
+            state = null;
+            eventPublisher.publishEvent(SeatMapChangedEvent.changed(changed));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            reset();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서만 호출한다
+    private void reset() {
+        if (loaded) {
+            loaded = false;
+            byId.clear();
+            state = null;
+            eventPublisher.publishEvent(SeatMapChangedEvent.reloaded());
+        }
+    }
+
+    private State current() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            if (state == null) {
+                if (!loaded) {
+                    load();
+                }
+                state = new State(baseVersion, lastVersion, List.copyOf(byId.values()));
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서만 호출한다
+    private void load() {
+        long version = Math.max(System.currentTimeMillis(), lastVersion + 1);
+        lastVersion = version;
+        baseVersion = version;
+        studentRepository.findAll(Sort.by("seatNum", "id"))
+                .forEach(student -> byId.put(student.getId(), SeatState.fromEntity(student, version)));
+        loaded = true;
+    }
+
+    private static void writeSeat(JsonGenerator generator, SeatState seat) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("id");
+        if (seat.id() != null) {
+            generator.writeNumber(seat.id());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeStringField("name", seat.name());
+        generator.writeNumberField("seatNum", seat.seatNum());
+        generator.writeStringField("status", seat.status() != null ? seat.status().name() : null);
+        // Jackson JavaTimeModule의 LocalDateTime 기본 형식과 같다
+        generator.writeStringField("updatedAt", seat.updatedAt() != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(seat.updatedAt()) : null);
+        generator.writeNumberField("version", seat.version());
+        generator.writeEndObject();
+    }
+
+    private class State {
+
+        private final long baseVersion;
+        private final long version;
+        private final List<SeatState> seats;
+        private volatile byte[] json;
+
+        private State(long baseVersion, long version, List<SeatState> seats) {
+            this.baseVersion = baseVersion;
+            this.version = version;
+            this.seats = seats;
+        }
+
+        private boolean needsFullResync(long sinceVersion) {
+            return sinceVersion < baseVersion || sinceVersion > version;
+        }
+
+        // 버전마다 한 번만 직렬화 (동시에 두 번 만들어져도 결과는 같다)
+        private byte[] json() {
+            byte[] serialized = json;
+            if (serialized == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(seats.size() * 128);
+                try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+                    generator.writeStartArray();
+                    for (SeatState seat : seats) {
+                        writeSeat(generator, seat);
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to serialize seat map", e);
+                }
+                serialized = out.toByteArray();
+                json = serialized;
+            }
+            return serialized;
+        }
+    }
+}
@@ -1,26 +1,120 @@
 package elice.yeardreamback.service.impl;
 
-import elice.yeardreamback.dto.StudentResponse;
+import elice.yeardreamback.dto.StudentAccount;
+import elice.yeardreamback.dto.StudentPageResponse;
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.dto.StudentStatusUpdateRequest;
+import elice.yeardreamback.dto.StudentStatusUpdateResult;
+import elice.yeardreamback.dto.StudentSummary;
+import elice.yeardreamback.entity.Students;
+import elice.yeardreamback.enums.StudentStatus;
 import elice.yeardreamback.repository.StudentRepository;
 import elice.yeardreamback.service.StudentService;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StudentServiceImpl(StudentRepository studentRepository) {
+    public StudentServiceImpl(StudentRepository studentRepository, ApplicationEventPublisher eventPublisher) {
         this.studentRepository = studentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
-    // 전체 학생 조회
-    public List<StudentResponse> findAll() {
-        return studentRepository.findAll().stream()
-                .map(response -> new StudentResponse(response.getId(), response.getName(), response.getSeatNum(), response.getStatus()))
-                .collect(Collectors.toList());
+    /**
+     * 학생 목록을 페이지 단위로 조회한다.
+     * afterSeatNum이 있으면 (좌석 번호, id) 키셋 방식(OFFSET 없이 다음 학생부터), 없으면 page 번호 방식으로 읽는다.
+     */
+    public StudentPageResponse findPage(Integer page, int size, Integer afterSeatNum, Long afterId, StudentStatus status) {
+        if (afterSeatNum != null || page == null) {
+            List<StudentSummary> students = studentRepository.findSummariesAfter(
+                    afterSeatNum != null ? afterSeatNum : Integer.MIN_VALUE,
+                    // afterId 없이 좌석 번호만 오면 그 좌석은 모두 읽은 것으로 본다
+                    afterId != null ? afterId : Long.MAX_VALUE,
+                    status, PageRequest.ofSize(size));
+            return students.size() == size
+                    ? nextPage(students, null)
+                    : new StudentPageResponse(students, null, null, null);
+        }
+
+        Page<StudentSummary> result = studentRepository.findSummaries(status, PageRequest.of(page, size));
+        return result.hasNext()
+                ? nextPage(result.getContent(), result.getTotalElements())
+                : new StudentPageResponse(result.getContent(), null, null, result.getTotalElements());
+    }
+
+    // 마지막 학생의 (좌석 번호, id)를 다음 페이지 커서로 돌려준다
+    private StudentPageResponse nextPage(List<StudentSummary> students, Long totalElements) {
+        StudentSummary last = students.get(students.size() - 1);
+        return new StudentPageResponse(students, last.seatNum(), last.id(), totalElements);
+    }
+
+    /**
+     * 여러 좌석의 출석 상태를 한 트랜잭션에서 변경한다.
+     * 대상은 id와 seatNum별로 한 번씩만 조회하고, 변경 내용은 커밋 시점에 JDBC 배치 UPDATE로 나간다.
+     * 요청 순서대로 행별 처리 결과를 돌려주고, 변경된 좌석은 커밋 이후 StudentStatusEvent로 알린다.
+     */
+    @Transactional
+    public List<StudentStatusUpdateResult> updateStatuses(List<StudentStatusUpdateRequest> requests, String recordedBy) {
+        Set<Long> ids = new HashSet<>();
+        Set<Integer> seatNums = new HashSet<>();
+        for (StudentStatusUpdateRequest request : requests) {
+            if (request.getId() != null) {
+                ids.add(request.getId());
+            } else if (request.getSeatNum() != null) {
+                seatNums.add(request.getSeatNum());
+            }
+        }
+
+        Map<Long, Students> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            studentRepository.findAllById(ids).forEach(student -> byId.put(student.getId(), student));
+        }
+        Map<Integer, Students> bySeatNum = new HashMap<>();
+        if (!seatNums.isEmpty()) {
+            studentRepository.findBySeatNumIn(seatNums).forEach(student -> bySeatNum.put(student.getSeatNum(), student));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<StudentStatusUpdateResult> results = new ArrayList<>(requests.size());
+        for (StudentStatusUpdateRequest request : requests) {
+            if (request.getStatus() == null) {
+                results.add(StudentStatusUpdateResult.failed(request, "status is required"));
+                continue;
+            }
+
+            Students student = request.getId() != null
+                    ? byId.get(request.getId())
+                    : request.getSeatNum() != null ? bySeatNum.get(request.getSeatNum()) : null;
+            if (student == null) {
+                results.add(StudentStatusUpdateResult.failed(request, "student not found"));
+                continue;
+            }
+
+            // 관리 상태의 엔티티만 바꿔두면 flush 때 변경된 행만 UPDATE 된다
+            student.setStatus(request.getStatus());
+            student.setUpdatedAt(now);
+            results.add(StudentStatusUpdateResult.updated(student.getId(), student.getSeatNum(), student.getStatus()));
+            eventPublisher.publishEvent(StudentStatusEvent.fromEntity(student, recordedBy));
+        }
+        return results;
+    }
+
+    public List<StudentAccount> findAccounts() {
+        return studentRepository.findAccounts();
     }
 }
@@ -1,24 +1,215 @@
 package elice.yeardreamback.service.impl;
-import org.springframework.data.redis.core.RedisTemplate;
+import elice.yeardreamback.jwt.JWTClaimsCache;
+import elice.yeardreamback.jwt.TokenBloomFilter;
+import elice.yeardreamback.jwt.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 로그아웃으로 폐기된 토큰 목록.
+ * Redis에는 토큰의 jti를 키로 저장하고 토큰의 exp 시각에 정확히 만료시킨다 (RevokedTokenStore가 모아서 논블로킹으로 전송).
+ * 각 인스턴스는 같은 jti를 로컬 블룸 필터에 들고 있어서 대부분의 (폐기되지 않은) 토큰은 Redis를 거치지 않는다.
+ * 다른 인스턴스에서 추가된 항목은 pub/sub 채널로 전달받는다.
+ * 필터 재구성은 전용 스레드에서 돈다. 필터가 아직 없으면 (시작 직후 Redis 장애 등) retry-interval-ms마다 다시 시도하고,
+ * 만든 뒤에는 rebuild-interval-ms마다 새로 만든다.
+ */
+@Slf4j
 @Service
-public class TokenServiceImpl {
+public class TokenServiceImpl implements MessageListener {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RevokedTokenStore revokedTokenStore;
+    private final JWTClaimsCache jwtClaimsCache;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    // 요청 스레드가 Redis 응답을 기다리는 최대 시간
+    private final Duration timeout;
+    // 필터 재구성 SCAN 전체를 기다리는 최대 시간
+    private final Duration scanTimeout;
+    private final long rebuildIntervalNanos;
+    private final long retryIntervalMs;
+    // 재구성 전용 스레드 (공용 @Scheduled 스레드를 Redis 응답 대기로 붙잡지 않는다)
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "revocation-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public TokenServiceImpl(RedisTemplate<String, String> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    // Redis 작업별 타이머 (배치 대기 시간 포함)
+    private final Timer revokeTimer;
+    private final Timer lookupTimer;
+    private final Timer scanTimer;
+
+    // 재구성 전까지는 null이며, 이때는 항상 Redis에서 확인한다
+    private volatile TokenBloomFilter bloomFilter;
+    private volatile long lastRebuildNanos;
+    // 재구성 중에 들어온 항목을 놓치지 않도록 새 필터에도 같이 기록
+    private TokenBloomFilter rebuildingFilter;
+    // 필터 추가와 필터 교체를 묶는 잠금 (조회는 잠그지 않는다)
+    private final Object filterLock = new Object();
+
+    public TokenServiceImpl(RevokedTokenStore revokedTokenStore,
+                            JWTClaimsCache jwtClaimsCache,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${spring.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${spring.jwt.revocation.timeout-ms:1000}") long timeoutMs,
+                            @Value("${spring.jwt.revocation.scan-timeout-ms:30000}") long scanTimeoutMs,
+                            @Value("${spring.jwt.revocation.rebuild-interval-ms:600000}") long rebuildIntervalMs,
+                            @Value("${spring.jwt.revocation.retry-interval-ms:5000}") long retryIntervalMs) {
+        this.revokedTokenStore = revokedTokenStore;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.scanTimeout = Duration.ofMillis(scanTimeoutMs);
+        this.rebuildIntervalNanos = TimeUnit.MILLISECONDS.toNanos(rebuildIntervalMs);
+        this.retryIntervalMs = retryIntervalMs;
+        this.revokeTimer = redisTimer(meterRegistry, "revoke");
+        this.lookupTimer = redisTimer(meterRegistry, "lookup");
+        this.scanTimer = redisTimer(meterRegistry, "scan");
+        listenerContainer.addMessageListener(this, new ChannelTopic(RevokedTokenStore.CHANNEL));
     }
 
+    /**
+     * 토큰을 폐기한다. 이미 만료되었거나 서명이 잘못된 토큰은 어차피 인증되지 않으므로 기록하지 않는다.
+     */
     public void invalidateToken(String token) {
-        long expirationTime = 3600;
+        JwtClaims claims;
+        try {
+            claims = jwtClaimsCache.get(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+
+        revoke(claims);
+        // 검증 캐시에 남아 있는 클레임도 바로 제거
+        jwtClaimsCache.invalidate(token);
+    }
+
+    public void revoke(JwtClaims claims) {
+        // jti가 없는 토큰(이전 버전에서 발급)은 만료될 때까지 그대로 둔다
+        if (claims.id() == null) {
+            return;
+        }
+
+        revoke(claims.id(), Duration.between(Instant.now(), claims.expiration()));
+    }
+
+    // 클레임 없이 jti만 아는 토큰 (remaining은 토큰의 남은 유효 시간)
+    public void revoke(String id, Duration remaining) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+
+        revokeTimer.record(() -> revokedTokenStore.revoke(id, remaining).block(timeout));
+        addToBloomFilter(id);
+    }
+
+    /**
+     * 폐기된 토큰이면 true.
+     * 블룸 필터가 없다고 답한 토큰은 Redis 없이 바로 false. 필터가 있을 수도 있다고 답했거나 아직 필터가 없으면 Redis로 확인하며,
+     * 이때 Redis가 응답하지 않거나 (timeout-ms) 조회 대기열이 가득 차면 예외를 던진다.
+     * JWTFilter는 이 예외를 503으로 돌려준다 (폐기 여부를 모르는 토큰은 인증하지 않는다, fail-closed).
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.id() == null) {
+            return false;
+        }
+
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(claims.id())) {
+            return false;
+        }
+        return Boolean.TRUE.equals(lookupTimer.record(() -> revokedTokenStore.isRevoked(claims.id()).block(timeout)));
+    }
+
+    // 다른 인스턴스에서 발행한 jti 수신 (한 메시지에 줄바꿈으로 여러 개)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        new String(message.getBody(), StandardCharsets.UTF_8).lines().forEach(this::addToBloomFilter);
+    }
+
+    // pub/sub 구독이 시작된 뒤에 첫 재구성을 한다 (스캔 중에 다른 인스턴스가 폐기한 jti를 놓치지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuilding() {
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildIfDue, 0, retryIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Redis에 남아 있는 폐기 키로 블룸 필터를 새로 만든다.
+     * 블룸 필터는 삭제가 안 되므로 TTL이 지난 항목을 털어내기 위해 주기적으로 다시 만든다.
+     */
+    public void rebuildBloomFilter() {
+        TokenBloomFilter rebuilt = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (filterLock) {
+            rebuildingFilter = rebuilt;
+        }
+
+        try {
+            scanTimer.record(() -> revokedTokenStore.revokedIds().doOnNext(rebuilt::add).then().block(scanTimeout));
+        } catch (RuntimeException e) {
+            // Redis에 접근할 수 없거나 scan-timeout-ms 안에 끝나지 않으면 기존 필터를 유지 (필터가 없으면 Redis로 직접 확인)
+            log.warn("revocation bloom filter rebuild failed: {}", e.getMessage());
+            synchronized (filterLock) {
+                rebuildingFilter = null;
+            }
+            return;
+        }
+
+        // 교체 전에 추가된 항목은 두 필터에 모두, 교체 후에 추가된 항목은 새 필터에 들어간다
+        synchronized (filterLock) {
+            bloomFilter = rebuilt;
+            rebuildingFilter = null;
+        }
+        lastRebuildNanos = System.nanoTime();
+    }
+
+    // 필터가 없으면 바로, 있으면 rebuild-interval-ms가 지났을 때만
+    private void rebuildIfDue() {
+        if (bloomFilter != null && System.nanoTime() - lastRebuildNanos < rebuildIntervalNanos) {
+            return;
+        }
+        rebuildBloomFilter();
+    }
 
-        redisTemplate.opsForValue().set("blacklist:" + token, "logout", Duration.ofSeconds(expirationTime));
+    private static Timer redisTimer(MeterRegistry meterRegistry, String command) {
+        return Timer.builder("token.revocation.redis")
+                .description("토큰 폐기 목록 Redis 명령 처리 시간")
+                .tag("command", command)
+                .register(meterRegistry);
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        return redisTemplate.hasKey("blacklist:" + token);
+    private void addToBloomFilter(String id) {
+        synchronized (filterLock) {
+            if (bloomFilter != null) {
+                bloomFilter.add(id);
+            }
+            if (rebuildingFilter != null) {
+                rebuildingFilter.add(id);
+            }
+        }
     }
 }
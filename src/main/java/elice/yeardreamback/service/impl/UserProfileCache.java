@@ -0,0 +1,113 @@
+package elice.yeardreamback.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import elice.yeardreamback.dto.UserResponse;
+import elice.yeardreamback.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * username 기준 사용자 프로필 로컬 캐시.
+ * 엔티티 대신 읽기 전용 UserResponse를 저장해서 캐시된 값이 영속성 컨텍스트 밖에서 바뀌지 않게 한다.
+ * 프로필이 바뀌면 커밋 이후에 해당 항목을 지우고,
+ * Redis 연동을 켜면 같은 username을 pub/sub으로 다른 인스턴스에도 알려서 함께 지운다.
+ * 무효화마다 버전을 올리고, DB를 읽는 동안 버전이 바뀌었으면 읽은 값을 캐시하지 않는다 (느린 조회가 이전 값을 되살리지 않도록).
+ */
+@Component
+public class UserProfileCache implements MessageListener, MeterBinder {
+
+    private static final String CHANNEL = "user-cache:invalidate";
+
+    private final Cache<String, UserResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+
+    public UserProfileCache(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds,
+                            @Value("${user.cache.redis.enabled:false}") boolean redisEnabled) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        if (redisEnabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    // 없는 사용자는 캐시하지 않는다 (곧 가입할 수 있으므로)
+    public Optional<UserResponse> get(String username, Function<String, Optional<User>> loader) {
+        UserResponse[] loaded = new UserResponse[1];
+        UserResponse cached = cache.get(username, key -> {
+            long version = invalidations.get();
+            loaded[0] = loader.apply(key).map(UserResponse::fromEntity).orElse(null);
+            return invalidations.get() == version ? loaded[0] : null;
+        });
+        return Optional.ofNullable(cached != null ? cached : loaded[0]);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 바로 지운다.
+     * 커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있다.
+     */
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        } else {
+            evict(username);
+        }
+    }
+
+    // hit / miss / eviction 카운터
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user.profile");
+    }
+
+    // 다른 인스턴스에서 발행한 username 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidations.incrementAndGet();
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evict(String username) {
+        invalidations.incrementAndGet();
+        cache.invalidate(username);
+        if (redisEnabled) {
+            redisTemplate.convertAndSend(CHANNEL, username);
+        }
+    }
+}
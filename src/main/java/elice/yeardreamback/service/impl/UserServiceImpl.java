@@ -1,5 +1,6 @@
 package elice.yeardreamback.service.impl;
 
+import elice.yeardreamback.dto.UserResponse;
 import elice.yeardreamback.entity.User;
 import elice.yeardreamback.exception.UserNotFoundException;
 import elice.yeardreamback.repository.UserRepository;
@@ -13,15 +14,19 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private final TokenServiceImpl tokenServiceImpl;
+    private final RefreshTokenServiceImpl refreshTokenServiceImpl;
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
-    public UserServiceImpl(TokenServiceImpl tokenServiceImpl, UserRepository userRepository) {
+    public UserServiceImpl(TokenServiceImpl tokenServiceImpl, RefreshTokenServiceImpl refreshTokenServiceImpl, UserRepository userRepository, UserProfileCache userProfileCache) {
         this.tokenServiceImpl = tokenServiceImpl;
+        this.refreshTokenServiceImpl = refreshTokenServiceImpl;
         this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
     }
 
-    public Optional<User> findUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+    public Optional<UserResponse> findUserByUsername(String username) {
+        return userProfileCache.get(username, userRepository::findByUsername);
     }
 
     @Transactional
@@ -35,10 +40,12 @@ public class UserServiceImpl implements UserService {
         user.setProfileImg(newProfileImageUrl);
         user.setPhone(newPhone);
 
+        userProfileCache.invalidate(username);
         return user;
     }
 
     public void logoutUser(String token) {
+        refreshTokenServiceImpl.revokeFamily(token);
         tokenServiceImpl.invalidateToken(token);
     }
 }
@@ -0,0 +1,6 @@
+-- KEYS[1]: 락 키, ARGV[1]: 락을 잡을 때 넣은 값
+-- 반환값: 1 해제, 0 이미 만료되어 다른 쪽이 잡은 락 (지우지 않는다)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
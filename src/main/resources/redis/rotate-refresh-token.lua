@@ -0,0 +1,16 @@
+-- KEYS[1]: refresh:family:{familyId}
+-- ARGV[1]: 제시된 리프레시 토큰 jti, ARGV[2]: 새 jti, ARGV[3]: TTL(ms)
+-- 반환값: {1} 회전 성공
+--        {0, 현재 jti, 현재 jti의 남은 TTL(ms)} 이미 회전된 토큰 재사용 (계열 전체 폐기)
+--        {-1} 없는 계열 (만료 또는 로그아웃)
+local current = redis.call('GET', KEYS[1])
+if not current then
+    return {-1}
+end
+if current ~= ARGV[1] then
+    local ttl = redis.call('PTTL', KEYS[1])
+    redis.call('DEL', KEYS[1])
+    return {0, current, ttl}
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return {1}
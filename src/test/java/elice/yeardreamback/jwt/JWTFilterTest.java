@@ -0,0 +1,127 @@
+package elice.yeardreamback.jwt;
+
+import elice.yeardreamback.config.SecurityConfig;
+import elice.yeardreamback.oauth2.CustomSuccessHandler;
+import elice.yeardreamback.service.CustomOAuth2UserService;
+import elice.yeardreamback.service.impl.TokenServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 SecurityConfig 필터 체인에 JWTFilter를 넣고 보호된 경로로 요청한다 (토큰 검증과 폐기 확인은 목)
+@SpringJUnitWebConfig(classes = {SecurityConfig.class, JWTFilterTest.TestConfig.class})
+class JWTFilterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockitoBean
+    private JWTClaimsCache jwtClaimsCache;
+
+    @MockitoBean
+    private TokenServiceImpl tokenServiceImpl;
+
+    @MockitoBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockitoBean
+    private CustomSuccessHandler customSuccessHandler;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void accessTokenAuthenticates() throws Exception {
+        given(jwtClaimsCache.get("access-token")).willReturn(claims("access"));
+
+        mockMvc.perform(get("/api/protected").header("Authorization", "Bearer access-token"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshTokenIsRejectedAsBearerToken() throws Exception {
+        given(jwtClaimsCache.get("refresh-token")).willReturn(claims("refresh"));
+
+        mockMvc.perform(get("/api/protected").header("Authorization", "Bearer refresh-token"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(tokenServiceImpl);
+    }
+
+    @Test
+    void unavailableRevocationCheckFailsClosedWith503() throws Exception {
+        given(jwtClaimsCache.get("access-token")).willReturn(claims("access"));
+        given(tokenServiceImpl.isRevoked(any())).willThrow(new IllegalStateException("revoked token lookup queue is full"));
+
+        mockMvc.perform(get("/api/protected").header("Authorization", "Bearer access-token"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    private static JwtClaims claims(String tokenType) {
+        return new JwtClaims("jti-" + tokenType, "naver 1", "홍길동", "USER", tokenType, null, Instant.now().plusSeconds(30));
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        // oauth2Login 설정에 필요한 등록 정보 (테스트에서는 로그인하지 않는다)
+        @Bean
+        ClientRegistrationRepository clientRegistrationRepository() {
+            return new InMemoryClientRegistrationRepository(ClientRegistration.withRegistrationId("naver")
+                    .clientId("test")
+                    .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                    .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                    .authorizationUri("https://nid.naver.com/oauth2.0/authorize")
+                    .tokenUri("https://nid.naver.com/oauth2.0/token")
+                    .build());
+        }
+
+        @Bean
+        ProtectedController protectedController() {
+            return new ProtectedController();
+        }
+    }
+
+    @RestController
+    static class ProtectedController {
+
+        @GetMapping("/api/protected")
+        public String ok() {
+            return "ok";
+        }
+    }
+}
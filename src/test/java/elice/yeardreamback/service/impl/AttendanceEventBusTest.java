@@ -0,0 +1,198 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.enums.StudentStatus;
+import elice.yeardreamback.service.SeatMapService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AttendanceEventBusTest {
+
+    private static final String STREAM_KEY = "attendance:events";
+
+    private final List<Object> published = new ArrayList<>();
+    // 스트림을 읽지 않으므로 연결과 배치도는 쓰지 않는다
+    private final AttendanceEventBus bus = new AttendanceEventBus(null, published::add, null,
+            true, STREAM_KEY, 10_000, 100, 1_000, "node-a");
+
+    private final LettuceConnectionFactory connectionFactory = mock(LettuceConnectionFactory.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SeatMapService seatMapService = mock(SeatMapService.class);
+    private AttendanceEventBus connectedBus;
+
+    @AfterEach
+    void tearDown() {
+        if (connectedBus != null) {
+            connectedBus.shutdown();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void eventFromOwnNodeIsSkipped() {
+        bus.apply(record("node-a", event()));
+
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void eventFromOtherNodeIsPublished() {
+        StudentStatusEvent event = event();
+
+        bus.apply(record("node-b", event));
+
+        assertThat(published).containsExactly(event);
+    }
+
+    @Test
+    void enabledBusRequiresNodeId() {
+        assertThatThrownBy(() -> new AttendanceEventBus(null, published::add, null,
+                true, STREAM_KEY, 10_000, 100, 1_000, ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void eventsOfOneTransactionArePipelinedAfterCommit() {
+        AttendanceEventBus bus = connectedBus();
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.onStatusChanged(event());
+        bus.onStatusChanged(event());
+        verify(connectionFactory, never()).getConnection();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+        InOrder order = inOrder(connection, streamCommands);
+        order.verify(connection).openPipeline();
+        order.verify(streamCommands, times(2)).xAdd(any(), any());
+        order.verify(connection).closePipeline();
+        assertThat(TransactionSynchronizationManager.hasResource(bus)).isFalse();
+    }
+
+    @Test
+    void rolledBackTransactionPublishesNothing() {
+        AttendanceEventBus bus = connectedBus();
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.onStatusChanged(event());
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(connectionFactory, never()).getConnection();
+        assertThat(TransactionSynchronizationManager.hasResource(bus)).isFalse();
+    }
+
+    @Test
+    void eventOutsideTransactionIsNotPublished() {
+        connectedBus().onStatusChanged(event());
+
+        verify(connectionFactory, never()).getConnection();
+    }
+
+    @Test
+    void readLoopPublishesRecordsFromOtherNodesAndAcksThem() {
+        StudentStatusEvent event = event();
+        ByteRecord record = record("node-b", event).withId(RecordId.of("1-0"));
+        givenReads(List.of(), List.of(record));
+
+        connectedBus().start();
+
+        verify(eventPublisher, timeout(2_000)).publishEvent((Object) event);
+        verify(streamCommands, timeout(2_000)).xAck(any(byte[].class), eq("node-a"), eq(RecordId.of("1-0")));
+        verify(seatMapService).invalidate();
+    }
+
+    @Test
+    void unackedRecordIsRedeliveredFromPendingListAfterReconnect() {
+        StudentStatusEvent event = event();
+        ByteRecord record = record("node-b", event).withId(RecordId.of("1-0"));
+        // 첫 연결: 대기 목록은 비어 있고 새 항목 하나를 받지만 ACK가 실패한다
+        // 다시 연결: 대기 목록에서 같은 항목을 다시 받는다
+        givenReads(List.of(), List.of(record), List.of(record));
+        given(streamCommands.xAck(any(byte[].class), anyString(), any(RecordId.class)))
+                .willThrow(new RedisConnectionFailureException("connection reset"))
+                .willReturn(1L);
+
+        connectedBus().start();
+
+        verify(eventPublisher, timeout(2_000).times(2)).publishEvent((Object) event);
+        verify(streamCommands, timeout(2_000).times(2)).xAck(any(byte[].class), eq("node-a"), eq(RecordId.of("1-0")));
+        verify(seatMapService, times(2)).invalidate();
+    }
+
+    private AttendanceEventBus connectedBus() {
+        given(connectionFactory.getConnection()).willReturn(connection);
+        given(connection.streamCommands()).willReturn(streamCommands);
+        connectedBus = new AttendanceEventBus(connectionFactory, eventPublisher, seatMapService,
+                true, STREAM_KEY, 10_000, 100, 20, "node-a");
+        return connectedBus;
+    }
+
+    // 주어진 순서대로 XREADGROUP 결과를 돌려주고, 다 쓰면 빈 결과를 돌려준다 (BLOCK 대신 잠깐 쉰다)
+    @SafeVarargs
+    private void givenReads(List<ByteRecord>... reads) {
+        List<List<ByteRecord>> remaining = new ArrayList<>(List.of(reads));
+        given(streamCommands.xReadGroup(any(), any(), any(StreamOffset.class))).willAnswer(invocation -> {
+            synchronized (remaining) {
+                if (!remaining.isEmpty()) {
+                    return remaining.remove(0);
+                }
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+    }
+
+    private static StudentStatusEvent event() {
+        return new StudentStatusEvent(42L, 7, StudentStatus.LATE, LocalDateTime.of(2026, 3, 2, 9, 15), "김코치");
+    }
+
+    private static ByteRecord record(String node, StudentStatusEvent event) {
+        return StreamRecords.rawBytes(Map.of(
+                "n".getBytes(StandardCharsets.UTF_8), node.getBytes(StandardCharsets.UTF_8),
+                "e".getBytes(StandardCharsets.UTF_8), AttendanceEventCodec.encode(event)
+        )).withStreamKey(STREAM_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+}
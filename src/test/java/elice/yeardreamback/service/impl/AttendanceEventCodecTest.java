@@ -0,0 +1,46 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.StudentStatusEvent;
+import elice.yeardreamback.enums.StudentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttendanceEventCodecTest {
+
+    @Test
+    void roundTripsEveryStatus() {
+        for (StudentStatus status : StudentStatus.values()) {
+            StudentStatusEvent event = new StudentStatusEvent(42L, 7, status,
+                    LocalDateTime.of(2026, 3, 2, 9, 15, 30, 123_456_789), "김코치");
+
+            assertThat(AttendanceEventCodec.decode(AttendanceEventCodec.encode(event))).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        StudentStatusEvent event = new StudentStatusEvent(1L, 0, null, null, null);
+
+        assertThat(AttendanceEventCodec.decode(AttendanceEventCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void statusIsWrittenAsStableCode() {
+        byte[] bytes = AttendanceEventCodec.encode(new StudentStatusEvent(1L, 0, StudentStatus.LATE, null, null));
+
+        // [버전 1B][id 8B][seatNum 4B] 다음이 status
+        assertThat(bytes[13]).isEqualTo((byte) 3);
+    }
+
+    @Test
+    void rejectsUnknownStatusCode() {
+        byte[] bytes = AttendanceEventCodec.encode(new StudentStatusEvent(1L, 0, StudentStatus.PRESENT, null, null));
+        bytes[13] = 99;
+
+        assertThatThrownBy(() -> AttendanceEventCodec.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.dto.ChatbotAnswer;
+import elice.yeardreamback.dto.FaqChangedEvent;
+import elice.yeardreamback.entity.Faq;
+import elice.yeardreamback.repository.FaqRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ChatbotServiceImplTest {
+
+    private final Map<Long, Faq> faqs = new ConcurrentHashMap<>();
+    private final FaqRepository faqRepository = mock(FaqRepository.class);
+    private ChatbotServiceImpl chatbotService;
+
+    @BeforeEach
+    void setUp() {
+        given(faqRepository.findAll()).willAnswer(invocation -> snapshot());
+        chatbotService = new ChatbotServiceImpl(faqRepository, new ChatbotAnswerCache(1000));
+    }
+
+    @Test
+    void faqAddedDuringRebuildIsInRebuiltIndex() {
+        save(1L, "수업 시간은 언제인가요", "오전 9시부터 오후 6시까지입니다");
+        chatbotService.rebuildIndex();
+        // 조회가 이미 끝난 뒤에 커밋된 변경
+        given(faqRepository.findAll()).willAnswer(invocation -> {
+            List<Faq> snapshot = snapshot();
+            chatbotService.onFaqChanged(FaqChangedEvent.saved(save(2L, "휴가 신청은 어떻게 하나요", "코치에게 미리 알려 주세요")));
+            return snapshot;
+        });
+        chatbotService.rebuildIndex();
+
+        assertThat(chatbotService.ask("휴가 신청", 3)).extracting(ChatbotAnswer::faqId).contains(2L);
+    }
+
+    @Test
+    void faqUpdatedDuringRebuildIsNotOverwrittenBySnapshot() {
+        save(1L, "수업 시간은 언제인가요", "오전 9시부터 오후 6시까지입니다");
+        chatbotService.rebuildIndex();
+        given(faqRepository.findAll()).willAnswer(invocation -> {
+            List<Faq> snapshot = snapshot();
+            chatbotService.onFaqChanged(FaqChangedEvent.saved(save(1L, "수업 시간은 언제인가요", "오전 10시부터 오후 7시까지입니다")));
+            return snapshot;
+        });
+        chatbotService.rebuildIndex();
+
+        assertThat(chatbotService.ask("수업 시간", 3)).extracting(ChatbotAnswer::answer)
+                .containsExactly("오전 10시부터 오후 7시까지입니다");
+    }
+
+    private Faq save(long id, String question, String answer) {
+        Faq faq = new Faq();
+        faq.setId(id);
+        faq.setQuestion(question);
+        faq.setAnswer(answer);
+        faqs.put(id, faq);
+        return faq;
+    }
+
+    // 조회 시점의 FAQ 사본 (이후 save로 바뀌어도 영향 없음)
+    private List<Faq> snapshot() {
+        return faqs.values().stream().map(this::copy).toList();
+    }
+
+    private Faq copy(Faq faq) {
+        Faq copy = new Faq();
+        copy.setId(faq.getId());
+        copy.setQuestion(faq.getQuestion());
+        copy.setAnswer(faq.getAnswer());
+        return copy;
+    }
+}
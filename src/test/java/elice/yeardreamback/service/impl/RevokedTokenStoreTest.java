@@ -0,0 +1,155 @@
+package elice.yeardreamback.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RevokedTokenStoreTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final InMemoryRedis redis = new InMemoryRedis();
+    private RevokedTokenStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void lookupsAreSentAsOneMgetWhenBatchIsFull() {
+        redis.values.put("revoked:a", "logout");
+        // 시간창이 길어서 배치가 차야만 보낸다
+        store = new RevokedTokenStore(redis.template, 3, 10_000, 8, 8192);
+
+        Mono<Boolean> a = store.isRevoked("a");
+        Mono<Boolean> b = store.isRevoked("b");
+        Mono<Boolean> c = store.isRevoked("c");
+
+        assertThat(a.block(TIMEOUT)).isTrue();
+        assertThat(b.block(TIMEOUT)).isFalse();
+        assertThat(c.block(TIMEOUT)).isFalse();
+        assertThat(redis.multiGets).containsExactly(List.of("revoked:a", "revoked:b", "revoked:c"));
+    }
+
+    @Test
+    void partialBatchIsSentWhenWindowCloses() {
+        store = new RevokedTokenStore(redis.template, 128, 20, 8, 8192);
+
+        assertThat(store.isRevoked("a").block(TIMEOUT)).isFalse();
+        assertThat(redis.multiGets).containsExactly(List.of("revoked:a"));
+    }
+
+    @Test
+    void failedMgetFailsEveryLookupInThatBatchOnly() {
+        store = new RevokedTokenStore(redis.template, 2, 10_000, 8, 8192);
+        redis.failing = true;
+
+        Mono<Boolean> a = store.isRevoked("a");
+        Mono<Boolean> b = store.isRevoked("b");
+
+        assertThatThrownBy(() -> a.block(TIMEOUT)).hasMessageContaining("redis down");
+        assertThatThrownBy(() -> b.block(TIMEOUT)).hasMessageContaining("redis down");
+
+        // 실패한 뒤에도 다음 배치는 그대로 처리된다
+        redis.failing = false;
+        redis.values.put("revoked:c", "logout");
+        Mono<Boolean> c = store.isRevoked("c");
+        Mono<Boolean> d = store.isRevoked("d");
+
+        assertThat(c.block(TIMEOUT)).isTrue();
+        assertThat(d.block(TIMEOUT)).isFalse();
+    }
+
+    @Test
+    void writesAreStoredAndPublishedAsOneMessage() {
+        store = new RevokedTokenStore(redis.template, 2, 10_000, 8, 8192);
+
+        Mono<Void> a = store.revoke("a", Duration.ofMinutes(5));
+        Mono<Void> b = store.revoke("b", Duration.ofMinutes(5));
+        a.block(TIMEOUT);
+        b.block(TIMEOUT);
+
+        assertThat(redis.values).containsOnlyKeys("revoked:a", "revoked:b");
+        assertThat(redis.published).containsExactly("a\nb");
+    }
+
+    @Test
+    void failedWriteFailsCallerAndLaterWritesStillGoThrough() {
+        store = new RevokedTokenStore(redis.template, 1, 10_000, 8, 8192);
+        redis.failing = true;
+
+        assertThatThrownBy(() -> store.revoke("a", Duration.ofMinutes(5)).block(TIMEOUT)).hasMessageContaining("redis down");
+
+        redis.failing = false;
+        store.revoke("b", Duration.ofMinutes(5)).block(TIMEOUT);
+
+        assertThat(redis.values).containsOnlyKeys("revoked:b");
+        assertThat(redis.published).containsExactly("b");
+    }
+
+    // MGET, SET EX, PUBLISH만 맵으로 흉내 내는 Redis 목
+    static class InMemoryRedis {
+
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        final List<List<String>> multiGets = Collections.synchronizedList(new ArrayList<>());
+        final List<String> published = Collections.synchronizedList(new ArrayList<>());
+        final ReactiveStringRedisTemplate template = mock(ReactiveStringRedisTemplate.class);
+        volatile boolean failing;
+
+        @SuppressWarnings("unchecked")
+        InMemoryRedis() {
+            ReactiveValueOperations<String, String> valueOperations = mock(ReactiveValueOperations.class);
+            given(template.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyCollection())).willAnswer(invocation -> multiGet(invocation.getArgument(0)));
+            given(valueOperations.set(anyString(), anyString(), any(Duration.class)))
+                    .willAnswer(invocation -> set(invocation.getArgument(0), invocation.getArgument(1)));
+            given(template.convertAndSend(anyString(), anyString())).willAnswer(invocation -> Mono.fromCallable(() -> {
+                published.add(invocation.getArgument(1));
+                return 1L;
+            }));
+        }
+
+        private Mono<List<String>> multiGet(Collection<String> keys) {
+            return Mono.defer(() -> {
+                multiGets.add(List.copyOf(keys));
+                if (failing) {
+                    return Mono.error(new IllegalStateException("redis down"));
+                }
+                List<String> result = new ArrayList<>();
+                keys.forEach(key -> result.add(values.get(key)));
+                return Mono.just(result);
+            });
+        }
+
+        private Mono<Boolean> set(String key, String value) {
+            return Mono.defer(() -> {
+                if (failing) {
+                    return Mono.error(new IllegalStateException("redis down"));
+                }
+                values.put(key, value);
+                return Mono.just(true);
+            });
+        }
+    }
+}
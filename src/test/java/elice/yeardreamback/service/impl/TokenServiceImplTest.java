@@ -0,0 +1,115 @@
+package elice.yeardreamback.service.impl;
+
+import elice.yeardreamback.jwt.JwtClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TokenServiceImplTest {
+
+    // Redis 대신 맵에 저장하는 폐기 목록
+    private final Map<String, Duration> revoked = new ConcurrentHashMap<>();
+    private final RevokedTokenStore store = mock(RevokedTokenStore.class);
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        given(store.isRevoked(anyString())).willAnswer(invocation -> Mono.just(revoked.containsKey(invocation.<String>getArgument(0))));
+        given(store.revoke(anyString(), any())).willAnswer(invocation -> {
+            revoked.put(invocation.getArgument(0), invocation.getArgument(1));
+            return Mono.empty();
+        });
+        given(store.revokedIds()).willAnswer(invocation -> Flux.fromIterable(List.copyOf(revoked.keySet())));
+        tokenService = new TokenServiceImpl(store, null, new RedisMessageListenerContainer(),
+                new SimpleMeterRegistry(), 1_000, 0.01, 1_000, 200, 600_000, 5_000);
+    }
+
+    @Test
+    void rebuiltFilterAnswersUnrevokedTokensWithoutRedis() {
+        revoked.put("revoked", Duration.ofMinutes(5));
+        tokenService.rebuildBloomFilter();
+
+        assertThat(tokenService.isRevoked(claims("revoked"))).isTrue();
+        assertThat(tokenService.isRevoked(claims("fresh"))).isFalse();
+        verify(store, never()).isRevoked("fresh");
+    }
+
+    @Test
+    void tokenRevokedDuringRebuildIsInRebuiltFilter() {
+        tokenService.rebuildBloomFilter();
+        // 스캔이 키를 이미 읽은 뒤에 폐기된 토큰
+        given(store.revokedIds()).willAnswer(invocation -> {
+            List<String> scanned = List.copyOf(revoked.keySet());
+            tokenService.revoke(claims("late"));
+            return Flux.fromIterable(scanned);
+        });
+        tokenService.rebuildBloomFilter();
+
+        assertThat(tokenService.isRevoked(claims("late"))).isTrue();
+    }
+
+    @Test
+    void tokenRevokedOnAnotherInstanceDuringRebuildIsInRebuiltFilter() {
+        tokenService.rebuildBloomFilter();
+        given(store.revokedIds()).willAnswer(invocation -> {
+            List<String> scanned = List.copyOf(revoked.keySet());
+            revoked.put("remote", Duration.ofMinutes(5));
+            tokenService.onMessage(new DefaultMessage(
+                    RevokedTokenStore.CHANNEL.getBytes(StandardCharsets.UTF_8), "remote".getBytes(StandardCharsets.UTF_8)), null);
+            return Flux.fromIterable(scanned);
+        });
+        tokenService.rebuildBloomFilter();
+
+        assertThat(tokenService.isRevoked(claims("remote"))).isTrue();
+    }
+
+    @Test
+    void failedRebuildKeepsPreviousFilter() {
+        revoked.put("revoked", Duration.ofMinutes(5));
+        tokenService.rebuildBloomFilter();
+        given(store.revokedIds()).willReturn(Flux.error(new IllegalStateException("redis down")));
+        tokenService.rebuildBloomFilter();
+        clearInvocations(store);
+
+        assertThat(tokenService.isRevoked(claims("revoked"))).isTrue();
+        assertThat(tokenService.isRevoked(claims("fresh"))).isFalse();
+        verify(store, never()).isRevoked("fresh");
+    }
+
+    @Test
+    void hungScanTimesOutAndKeepsPreviousFilter() {
+        revoked.put("revoked", Duration.ofMinutes(5));
+        tokenService.rebuildBloomFilter();
+        given(store.revokedIds()).willReturn(Flux.never());
+
+        long start = System.nanoTime();
+        tokenService.rebuildBloomFilter();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(tokenService.isRevoked(claims("revoked"))).isTrue();
+    }
+
+    private static JwtClaims claims(String jti) {
+        return new JwtClaims(jti, "naver 1", "홍길동", "USER", "access", null, Instant.now().plusSeconds(600));
+    }
+}